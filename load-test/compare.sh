@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+#
+# Runs load-test/releases.js against platform threads and the virtual profile, at every
+# VU level, and prints one Markdown table row per run for the README.
+#
+# Needs Java 21, Docker, k6, jq and curl. Each run starts with an empty MySQL volume and a
+# freshly started application, both with the same connection pool size and admission limits
+# (those of the virtual profile by default):
+#
+#   ./gradlew bootJar
+#   load-test/compare.sh
+#
+# Settings: VUS_LEVELS (default "200 1000"), DURATION (2m), POOL_SIZE (20), CHEAP_SLOTS (14),
+# EXPENSIVE_SLOTS (4).
+# The k6 summaries are kept in build/load-test.
+#
+set -euo pipefail
+
+VUS_LEVELS=${VUS_LEVELS:-"200 1000"}
+DURATION=${DURATION:-2m}
+POOL_SIZE=${POOL_SIZE:-20}
+CHEAP_SLOTS=${CHEAP_SLOTS:-14}
+EXPENSIVE_SLOTS=${EXPENSIVE_SLOTS:-4}
+PORT=${PORT:-8081}
+BASE_URL=http://localhost:${PORT}
+OUT=build/load-test
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+mkdir -p "$OUT"
+
+start_mysql() {
+    docker compose down -v mysql > /dev/null 2>&1 || true
+    docker compose up -d --wait mysql > /dev/null
+}
+
+start_app() {
+    local profile=$1
+    SPRING_PROFILES_ACTIVE=$profile java -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+        --release-tracker.admission.cheap.max-concurrent="$CHEAP_SLOTS" \
+        --release-tracker.admission.expensive.max-concurrent="$EXPENSIVE_SLOTS" \
+        > "$OUT/app-${profile:-platform}.log" 2>&1 &
+    APP_PID=$!
+    until curl -sf -o /dev/null "$BASE_URL/api/releases?limit=1"; do
+        if ! kill -0 "$APP_PID" 2> /dev/null; then
+            echo "Application failed to start, see $OUT/app-${profile:-platform}.log" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+}
+
+stop_app() {
+    kill "$APP_PID" 2> /dev/null || true
+    wait "$APP_PID" 2> /dev/null || true
+}
+trap stop_app EXIT
+
+echo "| Mode     | VUs  | req/s | p95 (ms) | p99 (ms) | 429/503 share |"
+echo "|----------|------|-------|----------|----------|---------------|"
+
+for vus in $VUS_LEVELS; do
+    for mode in platform virtual; do
+        profile=$([ "$mode" = virtual ] && echo virtual || echo "")
+        summary="$OUT/summary-$mode-$vus.json"
+
+        start_mysql
+        start_app "$profile"
+        k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="$vus" -e DURATION="$DURATION" \
+            --summary-export "$summary" load-test/releases.js > /dev/null
+        stop_app
+
+        jq -r --arg mode "$mode" --arg vus "$vus" '
+            "| \($mode | . + " " * (8 - length)) | \($vus | . + " " * (4 - length))"
+            + " | \(.metrics.http_reqs.rate | floor)"
+            + " | \(.metrics.http_req_duration["p(95)"] * 10 | round / 10)"
+            + " | \(.metrics.http_req_duration["p(99)"] * 10 | round / 10)"
+            + " | \(.metrics.rejected.value * 1000 | round / 10)% |"' "$summary"
+    done
+done
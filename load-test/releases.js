@@ -0,0 +1,61 @@
+// k6 load test for the release API.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=200 load-test/releases.js
+//
+// Mix: 70% filtered list pages, 20% single-release reads, 10% updates.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const RELEASES = `${BASE_URL}/api/releases`;
+const SEED = parseInt(__ENV.SEED || '500');
+
+// Requests turned away by admission control (429) or the concurrency limiter (503)
+const rejected = new Rate('rejected');
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200'),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const items = [];
+    for (let i = 0; i < SEED; i++) {
+        items.push({ name: `Load test ${i}`, description: `Seeded release ${i}`, releaseDate: '2026-03-01' });
+    }
+    const res = http.post(`${RELEASES}/batch`, JSON.stringify(items), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    check(res, { 'seeded': (r) => r.status === 200 });
+    return { ids: res.json('results').map((r) => r.release.id) };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const roll = Math.random();
+
+    if (roll < 0.7) {
+        const res = http.get(`${RELEASES}?status=Created&limit=50`, { tags: { name: 'filter' } });
+        rejected.add(res.status === 429 || res.status === 503);
+        check(res, { 'filter ok': (r) => [200, 429, 503].includes(r.status) });
+    } else if (roll < 0.9) {
+        const res = http.get(`${RELEASES}/${id}`, { tags: { name: 'getOne' } });
+        rejected.add(res.status === 429 || res.status === 503);
+        check(res, { 'getOne ok': (r) => [200, 429, 503].includes(r.status) });
+    } else {
+        const body = JSON.stringify({ name: `Load test ${id}`, description: `Updated ${Date.now()}`, releaseDate: '2026-03-02' });
+        const res = http.put(`${RELEASES}/${id}`, body, {
+            headers: { 'Content-Type': 'application/json' },
+            tags: { name: 'update' },
+        });
+        rejected.add(res.status === 429 || res.status === 503);
+        check(res, { 'update ok': (r) => [200, 409, 429, 503].includes(r.status) });
+    }
+}
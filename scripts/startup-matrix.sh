@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request for the three image variants and prints one Markdown table
+# row per variant for the README:
+#
+#   baseline  the regular image with the CDS archive switched off (-Xshare:off)
+#   CDS       the regular image
+#   CDS+AOT   the image built from ./gradlew bootJar -Paot with --build-arg AOT=true
+#
+# Needs Docker and Java 21. Builds both jars and images itself; MySQL must be up:
+#
+#   docker compose up -d mysql
+#   scripts/startup-matrix.sh 9
+#
+set -euo pipefail
+
+RUNS=${1:-5}
+IMAGE=release-tracker-startup
+CONTAINER=release-startup
+NETWORK=$(docker inspect release-mysql \
+    --format '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}')
+
+./gradlew -q bootJar
+docker build -q -t "$IMAGE:default" . > /dev/null
+./gradlew -q bootJar -Paot
+docker build -q --build-arg AOT=true -t "$IMAGE:aot" . > /dev/null
+
+measure() {
+    local label=$1
+    shift
+    local run="docker run -d --name $CONTAINER --network $NETWORK -p 8081:8080 \
+        -e SPRING_DATASOURCE_URL='jdbc:mysql://mysql:3306/release_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC' \
+        -e SPRING_DATASOURCE_USERNAME=release_user -e SPRING_DATASOURCE_PASSWORD=release_pass $*"
+    local median
+    median=$(START_CMD="$run" STOP_CMD="docker rm -f $CONTAINER" scripts/startup-time.sh "$RUNS" \
+        | sed -n 's/^Median time-to-first-request over [0-9]* runs: \([0-9]*\) ms$/\1/p')
+    printf '| %-8s | %33s |\n' "$label" "$median"
+}
+
+echo "| Image    | Median time-to-first-request (ms) |"
+echo "|----------|-----------------------------------|"
+measure baseline --entrypoint java "$IMAGE:default" -Xshare:off -jar /app/app.jar
+measure CDS "$IMAGE:default"
+measure CDS+AOT "$IMAGE:aot"
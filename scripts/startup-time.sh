@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request: from starting the application until the first
+# API request succeeds. Run it before and after a change to track startup time.
+#
+# By default it restarts the app container of docker-compose.yml (MySQL must be up):
+#
+#   docker compose up -d mysql
+#   scripts/startup-time.sh 5
+#
+# To measure a local jar instead, override the start and stop commands:
+#
+#   START_CMD='java -jar build/libs/ReleaseTracker-0.0.1-SNAPSHOT.jar' STOP_CMD='kill $APP_PID' \
+#       URL=http://localhost:8081/api/releases?limit=1 scripts/startup-time.sh 5
+#
+set -euo pipefail
+
+RUNS=${1:-5}
+URL=${URL:-http://localhost:8081/api/releases?limit=1}
+START_CMD=${START_CMD:-docker compose up -d --force-recreate --no-deps app}
+STOP_CMD=${STOP_CMD:-docker compose stop app}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+now_ms() {
+    date +%s%3N
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    bash -c "$START_CMD" > /dev/null 2>&1 &
+    APP_PID=$!
+    export APP_PID
+
+    deadline=$((start + TIMEOUT_SECONDS * 1000))
+    until curl -sf -o /dev/null "$URL"; do
+        if [ "$(now_ms)" -gt "$deadline" ]; then
+            echo "Run $run: no successful response from $URL within ${TIMEOUT_SECONDS}s" >&2
+            bash -c "$STOP_CMD" > /dev/null 2>&1 || true
+            exit 1
+        fi
+        sleep 0.05
+    done
+
+    elapsed=$(($(now_ms) - start))
+    results+=("$elapsed")
+    echo "Run $run: ${elapsed} ms"
+
+    bash -c "$STOP_CMD" > /dev/null 2>&1 || true
+    wait "$APP_PID" 2> /dev/null || true
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+echo "Median time-to-first-request over $RUNS runs: ${sorted[$((RUNS / 2))]} ms"
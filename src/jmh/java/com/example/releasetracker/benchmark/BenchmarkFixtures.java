@@ -0,0 +1,119 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.config.JacksonConfig;
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared sample data and infrastructure for the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds an {@link ObjectMapper} the way the application does:
+     * Spring Boot defaults plus the {@link JacksonConfig} customizer.
+     */
+    static ObjectMapper objectMapper() {
+        return objectMapper(null);
+    }
+
+    /**
+     * Same as {@link #objectMapper()}, writing a different data format
+     * (Smile, CBOR) like the binary message converters in {@code WebConfig}.
+     *
+     * @param factory data format factory, or {@code null} for JSON
+     */
+    static ObjectMapper objectMapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().jacksonCustomizer().customize(builder);
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Boots Hibernate against an in-memory H2 database, enough to build Criteria queries.
+     */
+    static SessionFactory sessionFactory() {
+        return new Configuration()
+                .addAnnotatedClass(Release.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+    }
+
+    static ReleaseRequestDTO request() {
+        ReleaseRequestDTO dto = new ReleaseRequestDTO();
+        dto.setName("Payments v4.2");
+        dto.setDescription("Adds SEPA instant transfers and fixes rounding in the ledger export.");
+        dto.setStatus("QA Done on STAGING");
+        dto.setReleaseDate(LocalDate.of(2026, 2, 17));
+        return dto;
+    }
+
+    static Release release() {
+        return Release.builder()
+                .id(4242L)
+                .name("Payments v4.2")
+                .description("Adds SEPA instant transfers and fixes rounding in the ledger export.")
+                .status(ReleaseStatus.QA_DONE_ON_STAGING)
+                .releaseDate(LocalDate.of(2026, 2, 17))
+                .createdAt(LocalDateTime.of(2026, 2, 1, 9, 30))
+                .lastUpdateAt(LocalDateTime.of(2026, 2, 16, 14, 5))
+                .version(7L)
+                .build();
+    }
+
+    static ReleaseResponseDTO response() {
+        return ReleaseResponseDTO.builder()
+                .id(4242L)
+                .name("Payments v4.2")
+                .description("Adds SEPA instant transfers and fixes rounding in the ledger export.")
+                .status("QA Done on STAGING")
+                .releaseDate(LocalDate.of(2026, 2, 17))
+                .createdAt(LocalDateTime.of(2026, 2, 1, 9, 30))
+                .lastUpdatedAt(LocalDateTime.of(2026, 2, 16, 14, 5))
+                .version(7L)
+                .build();
+    }
+
+    /**
+     * A list page of distinct releases spread over all statuses.
+     */
+    static List<ReleaseResponseDTO> responses(int count) {
+        ReleaseStatus[] statuses = ReleaseStatus.values();
+        List<ReleaseResponseDTO> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(ReleaseResponseDTO.builder()
+                    .id(1000L + i)
+                    .name("Payments v4." + i)
+                    .description("Adds SEPA instant transfers and fixes rounding in the ledger export, part " + i + ".")
+                    .status(statuses[i % statuses.length].getDisplayName())
+                    .releaseDate(LocalDate.of(2026, 2, 17).plusDays(i % 60))
+                    .createdAt(LocalDateTime.of(2026, 2, 1, 9, 30).plusMinutes(i))
+                    .lastUpdatedAt(LocalDateTime.of(2026, 2, 16, 14, 5).plusMinutes(i))
+                    .version((long) (i % 9))
+                    .build());
+        }
+        return responses;
+    }
+}
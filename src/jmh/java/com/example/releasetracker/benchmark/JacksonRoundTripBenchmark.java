@@ -0,0 +1,76 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of reading request bodies and writing response bodies,
+ * using the same configuration as the application.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonRoundTripBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter requestWriter;
+    private ObjectReader responseReader;
+    private ObjectWriter responseWriter;
+
+    private ReleaseRequestDTO request;
+    private ReleaseResponseDTO response;
+    private byte[] requestJson;
+    private byte[] responseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = BenchmarkFixtures.objectMapper();
+        requestReader = mapper.readerFor(ReleaseRequestDTO.class);
+        requestWriter = mapper.writerFor(ReleaseRequestDTO.class);
+        responseReader = mapper.readerFor(ReleaseResponseDTO.class);
+        responseWriter = mapper.writerFor(ReleaseResponseDTO.class);
+
+        request = BenchmarkFixtures.request();
+        response = BenchmarkFixtures.response();
+        requestJson = requestWriter.writeValueAsBytes(request);
+        responseJson = responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ReleaseRequestDTO readRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws IOException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ReleaseResponseDTO readResponse() throws IOException {
+        return responseReader.readValue(responseJson);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ReleaseResponseDTO roundTripResponse() throws IOException {
+        return responseReader.readValue(responseWriter.writeValueAsBytes(response));
+    }
+}
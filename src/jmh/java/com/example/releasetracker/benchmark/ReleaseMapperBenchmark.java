@@ -0,0 +1,46 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.mapper.ReleaseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a request body to an entity and an entity to a response body,
+ * done once per release on every write and read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReleaseMapperBenchmark {
+
+    private ReleaseMapper mapper;
+    private ReleaseRequestDTO request;
+    private Release release;
+
+    @Setup
+    public void setUp() {
+        mapper = new ReleaseMapper();
+        request = BenchmarkFixtures.request();
+        release = BenchmarkFixtures.release();
+    }
+
+    @Benchmark
+    public Release toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public ReleaseResponseDTO toDTO() {
+        return mapper.toDTO(release);
+    }
+}
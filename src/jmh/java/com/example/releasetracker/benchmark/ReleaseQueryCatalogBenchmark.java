@@ -0,0 +1,117 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.repository.ReleaseQueryCatalog;
+import com.example.releasetracker.specification.ReleaseCursor;
+import com.example.releasetracker.specification.ReleaseSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A list page read through a Criteria query built from {@link ReleaseSpecification}
+ * (the previous path) against the same page read through {@link ReleaseQueryCatalog}.
+ *
+ * Both run against a small in-memory table, so the difference is dominated by
+ * building and translating the query rather than by executing it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReleaseQueryCatalogBenchmark {
+
+    private static final int PAGE_SIZE = 51;
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @Param({"status", "all"})
+    private String filters;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    private String name;
+    private String description;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private ReleaseCursor after;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkFixtures.sessionFactory();
+        sessionFactory.inTransaction(session -> {
+            ReleaseStatus[] statuses = ReleaseStatus.values();
+            for (int i = 0; i < 500; i++) {
+                session.persist(Release.builder()
+                        .name("Payments v4." + i)
+                        .description("Ledger export, part " + i)
+                        .status(statuses[i % statuses.length])
+                        .releaseDate(FROM.plusDays(i % 120))
+                        .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                        .lastUpdateAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                        .build());
+            }
+        });
+
+        boolean all = filters.equals("all");
+        name = all ? "payments" : null;
+        description = all ? "ledger" : null;
+        fromDate = all ? FROM : null;
+        toDate = all ? TO : null;
+        after = new ReleaseCursor(FROM.plusDays(10), 0);
+
+        session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Release> criteria() {
+        CriteriaBuilder cb = session.getCriteriaBuilder();
+        CriteriaQuery<Release> query = cb.createQuery(Release.class);
+        Root<Release> root = query.from(Release.class);
+        query.where(ReleaseSpecification.filterBy(name, description, ReleaseStatus.ON_DEV, fromDate, toDate)
+                .and(ReleaseSpecification.after(after))
+                .toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(ReleaseSpecification.KEYSET_ORDER, root, cb));
+
+        List<Release> page = session.createQuery(query)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        session.clear();
+        return page;
+    }
+
+    @Benchmark
+    public List<Release> catalog() {
+        List<Release> page = ReleaseQueryCatalog.createPageQuery(
+                        session, name, description, ReleaseStatus.ON_DEV, fromDate, toDate, after)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        session.clear();
+        return page;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning filter parameters into a Criteria predicate tree,
+ * which happens on every list call before Hibernate translates it to SQL.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReleaseSpecificationBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = BenchmarkFixtures.sessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate statusOnly() {
+        return toPredicate(null, null, ReleaseStatus.ON_DEV, null, null);
+    }
+
+    @Benchmark
+    public Predicate allParameters() {
+        return toPredicate("payments", "ledger", ReleaseStatus.ON_DEV, FROM, TO);
+    }
+
+    private Predicate toPredicate(String name, String description, ReleaseStatus status,
+                                  LocalDate fromDate, LocalDate toDate) {
+        CriteriaQuery<Release> query = cb.createQuery(Release.class);
+        Root<Release> root = query.from(Release.class);
+        return ReleaseSpecification.filterBy(name, description, status, fromDate, toDate)
+                .toPredicate(root, query, cb);
+    }
+}
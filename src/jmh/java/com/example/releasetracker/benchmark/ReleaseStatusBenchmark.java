@@ -0,0 +1,45 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of parsing a status from its display name and of the workflow check,
+ * both done for every status change request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReleaseStatusBenchmark {
+
+    @Param({"Created", "qa done on staging", "On PROD"})
+    public String displayName;
+
+    private ReleaseStatus current;
+    private ReleaseStatus target;
+
+    @Setup
+    public void setUp() {
+        current = ReleaseStatus.QA_DONE_ON_STAGING;
+        target = ReleaseStatus.ON_PROD;
+    }
+
+    @Benchmark
+    public ReleaseStatus fromDisplayName() {
+        return ReleaseStatus.fromDisplayName(displayName);
+    }
+
+    @Benchmark
+    public boolean canTransitionTo() {
+        return current.canTransitionTo(target);
+    }
+}
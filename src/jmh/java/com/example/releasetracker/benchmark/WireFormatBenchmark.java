@@ -0,0 +1,99 @@
+package com.example.releasetracker.benchmark;
+
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode and decode cost of a full list page in each negotiable wire format.
+ *
+ * Payload sizes (plain and gzipped) are reported as the {@code bytes} and
+ * {@code gzippedBytes} secondary results of {@code encode}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<ReleaseResponseDTO>> PAGE = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"500"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<ReleaseResponseDTO> page;
+    private byte[] encoded;
+    private int gzippedSize;
+
+    /**
+     * Payload size of the page in the benchmarked format.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+        public long gzippedBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "json" -> BenchmarkFixtures.objectMapper();
+            case "smile" -> BenchmarkFixtures.objectMapper(new SmileFactory());
+            case "cbor" -> BenchmarkFixtures.objectMapper(new CBORFactory());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        writer = mapper.writerFor(PAGE);
+        reader = mapper.readerFor(PAGE);
+
+        page = BenchmarkFixtures.responses(pageSize);
+        encoded = writer.writeValueAsBytes(page);
+        gzippedSize = gzippedSize(encoded);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        // Assigned rather than added, so the reported value is the size of one page
+        size.bytes = encoded.length;
+        size.gzippedBytes = gzippedSize;
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<ReleaseResponseDTO> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static int gzippedSize(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.size();
+    }
+}
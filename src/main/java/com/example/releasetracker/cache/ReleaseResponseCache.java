@@ -0,0 +1,197 @@
+package com.example.releasetracker.cache;
+
+import com.example.releasetracker.config.ResponseCacheProperties;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of already-serialized JSON bodies for single releases.
+ *
+ * A hit returns the stored bytes as-is, without touching the database or
+ * the {@link ObjectMapper}. The cache is bounded by the total size of the
+ * stored bodies; least recently used entries are evicted first.
+ *
+ * Entries must be invalidated by every write path through {@link #invalidate(Long)}.
+ *
+ * Hits, misses, evictions and the number of entries are published as the
+ * standard {@code cache.gets}, {@code cache.evictions} and {@code cache.size}
+ * meters, tagged {@code cache=release-responses}.
+ */
+@Component
+public class ReleaseResponseCache {
+
+    private static final String CACHE_NAME = "release-responses";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxBytes;
+
+    // Access-ordered, guarded by "this"
+    private final LinkedHashMap<Long, CachedRelease> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ReleaseResponseCache(ObjectMapper objectMapper, ResponseCacheProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.enabled();
+        this.maxBytes = properties.maxSize().toBytes();
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .description("Lookups served from the cache")
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .description("Lookups that had to load the release")
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .description("Entries dropped to stay within the size bound")
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+        Gauge.builder("cache.size", this, ReleaseResponseCache::size)
+                .description("Number of cached releases")
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+        Gauge.builder("cache.bytes", this, ReleaseResponseCache::bytes)
+                .description("Total size of the cached bodies")
+                .tag("cache", CACHE_NAME)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Returns the serialized release, loading and serializing it on a miss.
+     *
+     * @param id     release ID
+     * @param loader loads the release when it is not cached
+     * @return JSON body together with the version it represents
+     */
+    public CachedRelease get(Long id, Supplier<ReleaseResponseDTO> loader) {
+        if (!enabled) {
+            return serialize(loader.get());
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            CachedRelease cached = entries.get(id);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        CachedRelease loaded = serialize(loader.get());
+        store(id, loaded, loadGeneration);
+        return loaded;
+    }
+
+    /**
+     * Removes releases from the cache once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * Invalidating before commit would let a concurrent reader cache the
+     * still-committed old state again.
+     *
+     * @param ids release IDs
+     */
+    public void invalidateAfterCommit(Collection<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(this::invalidate);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(ReleaseResponseCache.this::invalidate);
+            }
+        });
+    }
+
+    /**
+     * Returns the version of a cached release without counting a hit or miss.
+     *
+     * @param id release ID
+     * @return cached version, or {@code null} if the release is not cached
+     */
+    public synchronized Long cachedVersion(Long id) {
+        CachedRelease cached = entries.get(id);
+        return cached != null ? cached.version() : null;
+    }
+
+    /**
+     * Removes a release from the cache. Must be called after every change to it.
+     *
+     * @param id release ID
+     */
+    public synchronized void invalidate(Long id) {
+        // Any load that started before this point may have read stale data
+        generation++;
+        CachedRelease removed = entries.remove(id);
+        if (removed != null) {
+            currentBytes -= removed.body().length;
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized long bytes() {
+        return currentBytes;
+    }
+
+    private synchronized void store(Long id, CachedRelease release, long loadGeneration) {
+        int size = release.body().length;
+        if (loadGeneration != generation || size > maxBytes) {
+            return;
+        }
+
+        CachedRelease previous = entries.put(id, release);
+        currentBytes += size - (previous != null ? previous.body().length : 0);
+
+        Iterator<Map.Entry<Long, CachedRelease>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private CachedRelease serialize(ReleaseResponseDTO release) {
+        try {
+            return new CachedRelease(objectMapper.writeValueAsBytes(release), release.getVersion());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize release " + release.getId(), e);
+        }
+    }
+
+    /**
+     * Serialized release body.
+     *
+     * @param body    JSON representation
+     * @param version release version the body was produced from
+     */
+    public record CachedRelease(byte[] body, Long version) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.releasetracker.concurrency;
+
+import com.example.releasetracker.config.AdmissionControlProperties;
+import com.example.releasetracker.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Admits API requests per cost class, each with its own concurrency limit and bounded queue.
+ *
+ * Substring and full-text searches cannot use an index and can hold a
+ * database connection for a long time. Without separate limits a burst of
+ * them takes every connection and point lookups time out behind them. Here
+ * expensive requests can only occupy their own slots, so cheap requests
+ * always find a free one. A request whose class queue is full, or that
+ * waited too long, is rejected with {@code 429 Too Many Requests} and a
+ * {@code Retry-After} header.
+ *
+ * Runs before {@link ConcurrencyLimitFilter}, so rejected expensive requests
+ * never take one of its permits. Asynchronous requests (the NDJSON export)
+ * keep their slot until the asynchronous processing completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(prefix = "release-tracker.admission", name = "enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String LIST_PATH = "/api/releases";
+
+    // Change feed connections stay open for minutes but hold no database connection
+    private static final String STREAM_PATH = "/api/releases/stream";
+
+    private static final Set<String> EXPENSIVE_PATHS = Set.of(
+            "/api/releases/export",
+            "/api/releases/batch",
+            "/api/releases/transitions",
+            "/api/releases/stats/rebuild"
+    );
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    /**
+     * Cost class of a request.
+     */
+    public enum Cost {
+        /**
+         * Point lookups, status and closed date range filters, single writes.
+         */
+        CHEAP,
+        /**
+         * Substring or full-text search, open date ranges, archive reads, exports and bulk operations.
+         */
+        EXPENSIVE
+    }
+
+    private final Map<Cost, Bulkhead> bulkheads = new EnumMap<>(Cost.class);
+    private final Map<Cost, Counter> rejected = new EnumMap<>(Cost.class);
+    private final String retryAfter;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.retryAfter = Long.toString(Math.max(1, properties.retryAfter().toSeconds()));
+        this.objectMapper = objectMapper;
+
+        register(Cost.CHEAP, properties.cheap(), registry);
+        register(Cost.EXPENSIVE, properties.expensive(), registry);
+    }
+
+    private void register(Cost cost, AdmissionControlProperties.Limit limit, MeterRegistry registry) {
+        String tag = cost.name().toLowerCase(Locale.ROOT);
+        Bulkhead bulkhead = new Bulkhead(tag, limit.maxConcurrent(), limit.maxWait(), limit.maxQueue());
+        bulkheads.put(cost, bulkhead);
+
+        Gauge.builder("releases.admission.in-flight", bulkhead, Bulkhead::getInFlight)
+                .description("API requests of the cost class currently being processed")
+                .tag("class", tag)
+                .register(registry);
+        Gauge.builder("releases.admission.waiting", bulkhead, Bulkhead::getWaiting)
+                .description("API requests of the cost class waiting for a slot")
+                .tag("class", tag)
+                .register(registry);
+        rejected.put(cost, Counter.builder("releases.admission.rejected")
+                .description("API requests rejected because the limit and queue of their cost class were full")
+                .tag("class", tag)
+                .register(registry));
+    }
+
+    /**
+     * Classifies a request by the work it causes in the database.
+     *
+     * @param request API request
+     * @return cost class
+     */
+    static Cost costOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (EXPENSIVE_PATHS.contains(uri)) {
+            return Cost.EXPENSIVE;
+        }
+        if (!uri.equals(LIST_PATH) || !"GET".equals(request.getMethod())) {
+            return Cost.CHEAP;
+        }
+
+        boolean search = StringUtils.hasText(request.getParameter("q"))
+                || StringUtils.hasText(request.getParameter("name"))
+                || StringUtils.hasText(request.getParameter("description"));
+        boolean openDateRange = StringUtils.hasText(request.getParameter("fromDate"))
+                != StringUtils.hasText(request.getParameter("toDate"));
+        boolean archive = Boolean.parseBoolean(request.getParameter("includeArchived"));
+
+        return search || openDateRange || archive ? Cost.EXPENSIVE : Cost.CHEAP;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith(API_PREFIX) || uri.equals(STREAM_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Cost cost = costOf(request);
+        Bulkhead bulkhead = bulkheads.get(cost);
+        if (!bulkhead.tryAcquire()) {
+            reject(cost, bulkhead, request, response);
+            return;
+        }
+
+        boolean releaseOnCompletion = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new BulkheadReleasingListener(bulkhead));
+                releaseOnCompletion = true;
+            }
+        } finally {
+            if (!releaseOnCompletion) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private void reject(Cost cost, Bulkhead bulkhead, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        rejected.get(cost).increment();
+        log.warn("Rejected {} {} ({}): {} requests in flight, {} waiting", request.getMethod(), request.getRequestURI(),
+                bulkhead.getName(), bulkhead.getInFlight(), bulkhead.getWaiting());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too many " + bulkhead.getName() + " requests, retry later",
+                LocalDateTime.now()
+        ));
+    }
+}
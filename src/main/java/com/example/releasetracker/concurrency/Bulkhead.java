@@ -0,0 +1,113 @@
+package com.example.releasetracker.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of concurrently executing calls.
+ *
+ * A caller that cannot get a permit waits at most {@code maxWait} and is
+ * then rejected, so excess load is shed at the edge instead of queueing
+ * up inside the connection pool. The number of waiting callers can be
+ * bounded as well; callers beyond it are rejected without waiting.
+ * Safe to use from virtual threads.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int limit;
+    private final long maxWaitNanos;
+    private final int maxQueue;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * @param name    name used in metrics and logs
+     * @param limit   maximum number of concurrent calls
+     * @param maxWait how long a caller may wait for a permit; zero rejects immediately
+     */
+    public Bulkhead(String name, int limit, Duration maxWait) {
+        this(name, limit, maxWait, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param name     name used in metrics and logs
+     * @param limit    maximum number of concurrent calls
+     * @param maxWait  how long a caller may wait for a permit; zero rejects immediately
+     * @param maxQueue maximum number of callers waiting for a permit at the same time
+     */
+    public Bulkhead(String name, int limit, Duration maxWait, int maxQueue) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid bulkhead limit: " + limit + ". Must be at least 1");
+        }
+        if (maxQueue < 0) {
+            throw new IllegalArgumentException("Invalid bulkhead queue size: " + maxQueue + ". Must not be negative");
+        }
+        this.name = name;
+        this.limit = limit;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxQueue = maxQueue;
+        this.permits = new Semaphore(limit, true);
+    }
+
+    /**
+     * Tries to obtain a permit, waiting up to the configured maximum
+     * unless the queue of waiting callers is already full.
+     *
+     * @return {@code true} if a permit was obtained and must be released with {@link #release()}
+     */
+    public boolean tryAcquire() {
+        if (maxWaitNanos <= 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            // Timed variant, so a free permit still goes to callers that were already waiting
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                return false;
+            }
+            try {
+                return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } finally {
+                queued.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns a permit obtained with {@link #tryAcquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return number of calls currently holding a permit
+     */
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    /**
+     * @return approximate number of callers waiting for a permit
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.releasetracker.concurrency;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Returns a {@link Bulkhead} permit exactly once when asynchronous request processing ends.
+ *
+ * Filters that hold a permit for an asynchronous request (the NDJSON export)
+ * register this listener instead of releasing the permit when the filter chain returns.
+ */
+class BulkheadReleasingListener implements AsyncListener {
+
+    private final Bulkhead bulkhead;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    BulkheadReleasingListener(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Keep listening if processing is restarted
+        event.getAsyncContext().addListener(this);
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+}
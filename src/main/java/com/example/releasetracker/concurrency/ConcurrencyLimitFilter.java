@@ -0,0 +1,113 @@
+package com.example.releasetracker.concurrency;
+
+import com.example.releasetracker.config.ConcurrencyLimitProperties;
+import com.example.releasetracker.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Limits the number of API requests processed at the same time.
+ *
+ * With virtual threads the servlet container no longer caps concurrency through
+ * its worker pool, so without a limit every request would end up waiting for a
+ * database connection. Requests beyond the limit wait briefly for a permit and
+ * are otherwise rejected with {@code 503 Service Unavailable} and a
+ * {@code Retry-After} header.
+ *
+ * Asynchronous requests (the NDJSON export) keep their permit until the
+ * asynchronous processing completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "release-tracker.concurrency", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    // Change feed connections stay open for minutes but hold no database connection
+    private static final String STREAM_PATH = "/api/releases/stream";
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Bulkhead bulkhead;
+    private final String retryAfter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.bulkhead = new Bulkhead("api", properties.maxConcurrent(), properties.maxWait());
+        this.retryAfter = Long.toString(Math.max(1, properties.retryAfter().toSeconds()));
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("releases.concurrency.in-flight", bulkhead, Bulkhead::getInFlight)
+                .description("API requests currently holding a concurrency permit")
+                .register(registry);
+        Gauge.builder("releases.concurrency.waiting", bulkhead, Bulkhead::getWaiting)
+                .description("API requests waiting for a concurrency permit")
+                .register(registry);
+        this.rejected = Counter.builder("releases.concurrency.rejected")
+                .description("API requests rejected because the concurrency limit was reached")
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith(API_PREFIX) || uri.equals(STREAM_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!bulkhead.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        boolean releaseOnCompletion = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new BulkheadReleasingListener(bulkhead));
+                releaseOnCompletion = true;
+            }
+        } finally {
+            if (!releaseOnCompletion) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        rejected.increment();
+        log.warn("Rejected {} {}: {} requests in flight", request.getMethod(), request.getRequestURI(), bulkhead.getInFlight());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Too many concurrent requests, retry later",
+                LocalDateTime.now()
+        ));
+    }
+}
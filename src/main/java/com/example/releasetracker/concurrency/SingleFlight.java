@@ -0,0 +1,146 @@
+package com.example.releasetracker.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into a single execution.
+ *
+ * The first caller for a key runs the loader; callers arriving while it runs
+ * wait for it and get the same result, or the same exception. With a
+ * non-zero TTL a successful result is also handed to callers arriving up to
+ * {@code ttl} after it completed. Failures are never reused.
+ *
+ * Results are shared between threads, so they must not be modified by callers.
+ *
+ * @param <K> key identifying equivalent calls; needs value-based {@code equals}
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final long ttlNanos;
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    /**
+     * @param ttl how long a completed result is reused; zero shares only in-flight calls
+     */
+    public SingleFlight(Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Invalid single-flight TTL: " + ttl + ". Must not be negative");
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns the result for the key, running the loader only if no equivalent
+     * call is in flight and no reusable result exists.
+     *
+     * @param key    identifies equivalent calls
+     * @param loader computes the result
+     * @return the loader's result, possibly computed for another caller
+     */
+    public V execute(K key, Supplier<V> loader) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.result.isDone()) {
+                    joined.increment();
+                    return await(flight);
+                }
+                if (System.nanoTime() - flight.completedAt < ttlNanos) {
+                    reused.increment();
+                    return await(flight);
+                }
+                flights.remove(key, flight);
+            }
+
+            Flight<V> own = new Flight<>();
+            if (flights.putIfAbsent(key, own) == null) {
+                return run(key, own, loader);
+            }
+        }
+    }
+
+    /**
+     * Forgets all results and in-flight calls, so later callers run the loader again.
+     * Calls already waiting for a result still get it.
+     */
+    public void invalidate() {
+        flights.clear();
+    }
+
+    /**
+     * @return calls that ran the loader
+     */
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    /**
+     * @return calls that waited for a loader already running for another caller
+     */
+    public long getJoined() {
+        return joined.sum();
+    }
+
+    /**
+     * @return calls served with a result completed within the TTL
+     */
+    public long getReused() {
+        return reused.sum();
+    }
+
+    private V run(K key, Flight<V> own, Supplier<V> loader) {
+        executed.increment();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            // Removed first, so a caller arriving now starts over instead of getting the failure
+            flights.remove(key, own);
+            own.result.completeExceptionally(e);
+            throw e;
+        }
+
+        own.completedAt = System.nanoTime();
+        own.result.complete(value);
+        if (ttlNanos > 0) {
+            CompletableFuture.delayedExecutor(ttlNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> flights.remove(key, own));
+        } else {
+            flights.remove(key, own);
+        }
+        return value;
+    }
+
+    private V await(Flight<V> flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        // Written before the result is completed, so readers that see a completed result see it too
+        private volatile long completedAt;
+    }
+}
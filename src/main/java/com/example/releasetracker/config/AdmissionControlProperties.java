@@ -0,0 +1,40 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for cost-aware admission control of API requests.
+ *
+ * Cheap and expensive requests get separate limits, so a burst of expensive
+ * queries cannot take the connections that point lookups need. Keep
+ * {@code cheap.max-concurrent} plus {@code expensive.max-concurrent} below
+ * the connection pool size, or admitted requests wait for a connection.
+ *
+ * @param enabled    whether requests are admitted per cost class
+ * @param retryAfter value of the {@code Retry-After} header on rejected requests
+ * @param cheap      limits for point lookups, status filters and single writes
+ * @param expensive  limits for substring and full-text search, open date ranges, exports and bulk operations
+ */
+@ConfigurationProperties(prefix = "release-tracker.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Limit cheap,
+        @DefaultValue Limit expensive) {
+
+    /**
+     * Limits of one cost class.
+     *
+     * @param maxConcurrent maximum number of requests of the class processed at the same time
+     * @param maxQueue      maximum number of requests of the class waiting for a slot
+     * @param maxWait       how long a queued request may wait for a slot
+     */
+    public record Limit(
+            @DefaultValue("16") int maxConcurrent,
+            @DefaultValue("32") int maxQueue,
+            @DefaultValue("200ms") Duration maxWait) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for moving old Done releases to the archive table.
+ *
+ * @param enabled          whether the scheduled job archives anything
+ * @param age              releases Done and unchanged for longer than this are archived
+ * @param batchSize        releases moved per transaction
+ * @param pause            pause between batches, to limit the load on the database
+ * @param maxBatchesPerRun upper bound of batches per run; the rest is left for the next run
+ */
+@ConfigurationProperties(prefix = "release-tracker.archive")
+public record ArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("90d") Duration age,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration pause,
+        @DefaultValue("200") int maxBatchesPerRun) {
+}
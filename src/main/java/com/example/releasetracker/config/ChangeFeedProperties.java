@@ -0,0 +1,22 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the server-sent events change feed.
+ *
+ * @param replaySize       number of recent events kept for {@code Last-Event-ID} replay
+ * @param subscriberBuffer events queued per subscriber before it is considered too slow and dropped
+ * @param heartbeat        interval of keep-alive comments on an idle connection
+ * @param timeout          lifetime of one connection; clients reconnect with {@code Last-Event-ID}
+ */
+@ConfigurationProperties(prefix = "release-tracker.change-feed")
+public record ChangeFeedProperties(
+        @DefaultValue("1024") int replaySize,
+        @DefaultValue("256") int subscriberBuffer,
+        @DefaultValue("15s") Duration heartbeat,
+        @DefaultValue("30m") Duration timeout) {
+}
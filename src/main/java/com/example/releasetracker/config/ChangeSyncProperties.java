@@ -0,0 +1,20 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the incremental change sync endpoint.
+ *
+ * @param safetyLag          changes younger than this are not returned yet, so rows from
+ *                           transactions that are still committing are not skipped
+ * @param tombstoneRetention how long deleted releases are kept before they are purged;
+ *                           older tokens require a full resync
+ */
+@ConfigurationProperties(prefix = "release-tracker.changes")
+public record ChangeSyncProperties(
+        @DefaultValue("5s") Duration safetyLag,
+        @DefaultValue("30d") Duration tombstoneRetention) {
+}
@@ -0,0 +1,19 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for collapsing identical concurrent list requests into one query.
+ *
+ * @param enabled whether identical list requests share one query
+ * @param ttl     how long a finished result is reused for identical requests; zero only shares
+ *                queries that are still running
+ */
+@ConfigurationProperties(prefix = "release-tracker.list-coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0ms") Duration ttl) {
+}
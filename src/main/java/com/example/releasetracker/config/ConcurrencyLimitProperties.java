@@ -0,0 +1,22 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the API concurrency limit.
+ *
+ * @param enabled       whether concurrent API requests are limited
+ * @param maxConcurrent maximum number of API requests processed at the same time
+ * @param maxWait       how long a request may wait for a free slot before it is rejected
+ * @param retryAfter    value of the {@code Retry-After} header on rejected requests
+ */
+@ConfigurationProperties(prefix = "release-tracker.concurrency")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("40") int maxConcurrent,
+        @DefaultValue("100ms") Duration maxWait,
+        @DefaultValue("1s") Duration retryAfter) {
+}
@@ -0,0 +1,47 @@
+package com.example.releasetracker.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the {@value #FULLTEXT_SCORE} HQL/Criteria function used for
+ * relevance-ranked release search.
+ *
+ * On MySQL it renders to {@code MATCH(name, description) AGAINST(...)} and is
+ * served by the FULLTEXT (ngram) index. Other databases (H2 in tests) get a
+ * case-insensitive substring fallback that ranks name hits above description hits.
+ *
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    /**
+     * Function name; arguments are {@code (name, description, searchText)}.
+     * Returns a relevance score, where {@code 0} means no match.
+     */
+    public static final String FULLTEXT_SCORE = "fulltext_score";
+
+    private static final String MYSQL_PATTERN =
+            "match(?1, ?2) against (?3 in natural language mode)";
+
+    private static final String FALLBACK_PATTERN =
+            "(case when lower(?1) like concat('%', lower(?3), '%') then 2 else 0 end"
+                    + " + case when lower(?2) like concat('%', lower(?3), '%') then 1 else 0 end)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> scoreType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        String pattern = functionContributions.getDialect() instanceof MySQLDialect
+                ? MYSQL_PATTERN
+                : FALLBACK_PATTERN;
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern(FULLTEXT_SCORE, pattern, scoreType);
+    }
+}
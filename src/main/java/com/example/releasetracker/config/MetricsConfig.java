@@ -0,0 +1,31 @@
+package com.example.releasetracker.config;
+
+import com.example.releasetracker.metrics.SqlTimingListener;
+import com.example.releasetracker.metrics.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Lets {@link StatementCounter} see every statement Hibernate prepares.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    /**
+     * Attaches a {@link SqlTimingListener} to every session, only when Server-Timing is enabled
+     * so that sessions carry no extra listener otherwise.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.server-timing", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer sqlTimingCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.releasetracker.config;
+
+import com.example.releasetracker.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured data source with one that routes read-only
+ * transactions to the configured replicas. The primary pool is still configured
+ * through {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "release-tracker.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Routes between the primary and one pool per replica. Closing it closes the replica pools.
+     *
+     * The replica pools are not beans, so Spring Boot does not bind their metrics;
+     * each gets the same Micrometer tracker it would, publishing {@code hikaricp.*}
+     * tagged with {@code pool=replica-<n>}.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReplicaProperties replicaProperties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.instances().size(); i++) {
+            ReplicaProperties.Replica replica = replicaProperties.instances().get(i);
+            if (replica.url() == null || replica.url().isBlank()) {
+                throw new IllegalArgumentException("release-tracker.replicas.instances[" + i + "].url is required");
+            }
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setReadOnly(true);
+            // Same driver settings as the primary, e.g. the prepared statement cache
+            pool.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * The data source used by JPA, JDBC and Flyway.
+     *
+     * The lazy proxy fetches the physical connection on the first statement, after the
+     * transaction has begun, so the routing decision can see its read-only flag.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
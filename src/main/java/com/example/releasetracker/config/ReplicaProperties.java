@@ -0,0 +1,36 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas serving read-only transactions.
+ *
+ * @param enabled        whether read-only transactions are routed to the replicas
+ * @param readYourWrites how long a client's reads stay on the primary after it wrote; {@code 0} disables it
+ * @param instances      replica connection settings, used round-robin
+ */
+@ConfigurationProperties(prefix = "release-tracker.replicas")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2s") Duration readYourWrites,
+        @DefaultValue List<Replica> instances) {
+
+    /**
+     * Connection settings of one replica; each gets its own connection pool.
+     *
+     * @param url             JDBC URL
+     * @param username        user name
+     * @param password        password
+     * @param maximumPoolSize maximum number of connections to this replica
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the serialized single-release response cache.
+ *
+ * @param enabled whether responses are cached at all
+ * @param maxSize upper bound for the total size of cached response bodies
+ */
+@ConfigurationProperties(prefix = "release-tracker.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8MB") DataSize maxSize) {
+}
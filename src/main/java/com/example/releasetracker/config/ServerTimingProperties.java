@@ -0,0 +1,21 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Settings for the per-request {@code Server-Timing} phase breakdown.
+ *
+ * @param enabled       whether requests are timed at all
+ * @param slowThreshold requests taking at least this long are logged with their breakdown
+ * @param excludedPaths streaming endpoints whose responses must not be buffered
+ */
+@ConfigurationProperties(prefix = "release-tracker.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500ms") Duration slowThreshold,
+        @DefaultValue({"/api/releases/export", "/api/releases/stream"}) Set<String> excludedPaths) {
+}
@@ -0,0 +1,48 @@
+package com.example.releasetracker.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    /**
+     * Defers creation of the springdoc beans (OpenAPI scanning, Swagger UI) until the
+     * API docs are first requested, taking them off the startup path. Only these beans
+     * are made lazy, so the rest of the context still fails fast on startup.
+     *
+     * Static, because a post-processor must be registered before the configuration class is created.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.startup", name = "lazy-springdoc", havingValue = "true")
+    public static BeanFactoryPostProcessor lazySpringdocPostProcessor() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isSpringdoc(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className != null) {
+            return className.startsWith(SPRINGDOC_PACKAGE);
+        }
+        // @Bean methods: the declaring configuration class tells where the bean comes from
+        String factoryBean = definition.getFactoryBeanName();
+        if (factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)) {
+            String factoryClass = beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+            return factoryClass != null && factoryClass.startsWith(SPRINGDOC_PACKAGE);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.releasetracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the asynchronous status event writer.
+ *
+ * @param bufferCapacity maximum number of events waiting to be written; beyond it events are written synchronously
+ * @param batchSize      maximum number of events written in one JDBC batch
+ */
+@ConfigurationProperties(prefix = "release-tracker.status-events")
+public record StatusEventProperties(
+        @DefaultValue("10000") int bufferCapacity,
+        @DefaultValue("500") int batchSize) {
+}
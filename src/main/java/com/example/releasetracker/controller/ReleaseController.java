@@ -1,17 +1,50 @@
 package com.example.releasetracker.controller;
 
+import com.example.releasetracker.cache.ReleaseResponseCache;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.BatchResultDTO;
+import com.example.releasetracker.dto.ReleaseChangesDTO;
+import com.example.releasetracker.dto.ReleaseBatchUpdateDTO;
+import com.example.releasetracker.dto.ReleaseHistoryDTO;
+import com.example.releasetracker.dto.ReleasePageDTO;
 import com.example.releasetracker.dto.ReleaseResponseDTO;
 import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.dto.ReleaseStatsDTO;
+import com.example.releasetracker.dto.ReleaseStatusChangeDTO;
+import com.example.releasetracker.dto.ReleaseStatusTransitionRequestDTO;
+import com.example.releasetracker.dto.ReleaseStatusTransitionResultDTO;
+import com.example.releasetracker.exception.ReleaseNotFoundException;
+import com.example.releasetracker.feed.ReleaseChangeFeed;
+import com.example.releasetracker.service.ReleaseArchiveService;
+import com.example.releasetracker.service.ReleaseBatchService;
+import com.example.releasetracker.service.ReleaseChangesService;
+import com.example.releasetracker.service.ReleaseHistoryService;
+import com.example.releasetracker.service.ReleaseListCoalescer;
 import com.example.releasetracker.service.ReleaseService;
+import com.example.releasetracker.service.ReleaseStatsService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
@@ -22,10 +55,61 @@ import java.util.List;
 public class ReleaseController {
 
     private final ReleaseService releaseService;
+    private final ReleaseArchiveService releaseArchiveService;
+    private final ReleaseBatchService releaseBatchService;
+    private final ReleaseChangesService releaseChangesService;
+    private final ReleaseStatsService releaseStatsService;
+    private final ReleaseHistoryService releaseHistoryService;
+    private final ReleaseListCoalescer releaseListCoalescer;
+    private final ReleaseResponseCache releaseResponseCache;
+    private final ReleaseChangeFeed releaseChangeFeed;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @Operation(summary = "List and filter releases")
-    public ResponseEntity<List<ReleaseResponseDTO>> list(
+    public ResponseEntity<ReleasePageDTO<?>> list(
+            @Parameter(description = "Filter by release name (partial match)", example = "Release v1")
+            @RequestParam(required = false) String name,
+
+            @Parameter(description = "Filter by description", example = "features")
+            @RequestParam(required = false) String description,
+
+            @Parameter(description = "Filter by release status", example = "In Development")
+            @RequestParam(required = false) ReleaseStatus status,
+
+            @Parameter(description = "Filter releases from this date", example = "2026-02-01")
+            @RequestParam(required = false) LocalDate fromDate,
+
+            @Parameter(description = "Filter releases up to this date", example = "2026-02-28")
+            @RequestParam(required = false) LocalDate toDate,
+
+            @Parameter(description = "Full-text search over name and description; results are ranked by relevance and not paginated", example = "payment")
+            @RequestParam(required = false) String q,
+
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size (default 50, max 500)", example = "50")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(description = "Comma separated fields to return; only these columns are read. The id is always included", example = "id,name,status,releaseDate")
+            @RequestParam(required = false) String fields,
+
+            @Parameter(description = "Also return archived releases (long-finished Done releases); not supported with q or fields")
+            @RequestParam(defaultValue = "false") boolean includeArchived
+    ) {
+        if (fields != null && !fields.isBlank()) {
+            if (includeArchived) {
+                throw new IllegalArgumentException("includeArchived is not supported together with fields");
+            }
+            return ResponseEntity.ok(releaseService.filterFields(name, description, status, fromDate, toDate, q, cursor, limit, fields));
+        }
+        return ResponseEntity.ok(releaseListCoalescer.filter(name, description, status, fromDate, toDate, q, cursor, limit, includeArchived));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export filtered releases as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> export(
             @Parameter(description = "Filter by release name (partial match)", example = "Release v1")
             @RequestParam(required = false) String name,
 
@@ -41,13 +125,128 @@ public class ReleaseController {
             @Parameter(description = "Filter releases up to this date", example = "2026-02-28")
             @RequestParam(required = false) LocalDate toDate
     ) {
-        return ResponseEntity.ok(releaseService.filter(name, description, status, fromDate, toDate));
+        // Rows are flushed by the servlet buffer, not after every record
+        ObjectWriter writer = objectMapper.writerFor(ReleaseResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                releaseService.export(name, description, status, fromDate, toDate, release -> {
+                    try {
+                        writer.writeValue(generator, release);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a single release by ID")
-    public ResponseEntity<ReleaseResponseDTO> get(@PathVariable Long id) {
-        return ResponseEntity.ok(releaseService.getOne(id));
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ReleaseResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Release is unchanged since the version in If-None-Match")
+    public ResponseEntity<byte[]> get(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(description = "Look the release up in the archive when it is no longer among the current releases")
+            @RequestParam(defaultValue = "false") boolean includeArchived
+    ) {
+        if (!includeArchived) {
+            return current(id, ifNoneMatch);
+        }
+        try {
+            return current(id, ifNoneMatch);
+        } catch (ReleaseNotFoundException e) {
+            return archived(id, ifNoneMatch);
+        }
+    }
+
+    private ResponseEntity<byte[]> current(Long id, String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Only the version is needed to answer a conditional request
+            Long version = releaseResponseCache.cachedVersion(id);
+            if (version == null) {
+                version = releaseService.getVersion(id);
+            }
+            if (ReleaseETags.matches(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(ReleaseETags.of(version))
+                        .build();
+            }
+        }
+
+        // Served from pre-serialized bytes; only a cache miss reaches the service
+        ReleaseResponseCache.CachedRelease release = releaseResponseCache.get(id, () -> releaseService.getOne(id));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(ReleaseETags.of(release.version()))
+                .body(release.body());
+    }
+
+    // Archived releases never change and are rarely read, so they bypass the response cache
+    private ResponseEntity<byte[]> archived(Long id, String ifNoneMatch) {
+        ReleaseResponseDTO release = releaseArchiveService.getArchived(id);
+        if (ifNoneMatch != null && ReleaseETags.matches(ifNoneMatch, release.getVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(ReleaseETags.of(release.getVersion()))
+                    .build();
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(ReleaseETags.of(release.getVersion()))
+                    .body(objectMapper.writeValueAsBytes(release));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize release " + id, e);
+        }
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Releases changed or deleted since a token, for incremental sync")
+    @ApiResponse(responseCode = "410", description = "Token is older than the tombstone retention; sync again without since")
+    public ResponseEntity<ReleaseChangesDTO> changes(
+            @Parameter(description = "Token from the previous response; omit for a full sync")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes (default 500, max 1000)", example = "500")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(releaseChangesService.getChanges(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Server-sent events stream of release creates, updates, status changes and deletes")
+    public SseEmitter stream(
+            @Parameter(description = "ID of the last received event; missed events are replayed when still available")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return releaseChangeFeed.subscribe(lastEventId);
+    }
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Status history of a release with the time spent in each status")
+    public ResponseEntity<ReleaseHistoryDTO> history(
+            @Parameter(description = "Release ID", example = "1")
+            @PathVariable Long id) {
+        return ResponseEntity.ok(releaseHistoryService.getHistory(id));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Number of releases per status and per release month")
+    public ResponseEntity<ReleaseStatsDTO> stats() {
+        return ResponseEntity.ok(releaseStatsService.getStats());
+    }
+
+    @PostMapping("/stats/rebuild")
+    @Operation(summary = "Recount release statistics from the releases table and correct any drift")
+    public ResponseEntity<ReleaseStatsDTO> rebuildStats() {
+        return ResponseEntity.ok(releaseStatsService.rebuild());
     }
 
     @PostMapping
@@ -59,16 +258,53 @@ public class ReleaseController {
                 .path("/{id}")
                 .buildAndExpand(created.getId())
                 .toUri();
-        return ResponseEntity.created(location).body(created);
+        return ResponseEntity.created(location)
+                .eTag(ReleaseETags.of(created.getVersion()))
+                .body(created);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create many releases in one transaction; invalid items are reported per item")
+    public ResponseEntity<BatchResultDTO> createBatch(@RequestBody List<ReleaseRequestDTO> dtos) {
+        return ResponseEntity.ok(releaseBatchService.createAll(dtos));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update many releases in one transaction; invalid items are reported per item")
+    public ResponseEntity<BatchResultDTO> updateBatch(@RequestBody List<ReleaseBatchUpdateDTO> dtos) {
+        return ResponseEntity.ok(releaseBatchService.updateAll(dtos));
+    }
+
+    @PostMapping("/transitions")
+    @Operation(summary = "Move many releases to a new status in one statement")
+    public ResponseEntity<ReleaseStatusTransitionResultDTO> transition(
+            @Valid @RequestBody ReleaseStatusTransitionRequestDTO request
+    ) {
+        return ResponseEntity.ok(releaseBatchService.transitionAll(request));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing release")
+    @ApiResponse(responseCode = "412", description = "Release changed since the version in If-Match")
     public ResponseEntity<ReleaseResponseDTO> update(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ReleaseRequestDTO dto
     ) {
-        return ResponseEntity.ok(releaseService.update(id, dto));
+        ReleaseResponseDTO updated = releaseService.update(id, dto, ReleaseETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ReleaseETags.of(updated.getVersion()))
+                .body(updated);
+    }
+
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Change the status of a release with a single conditional update")
+    public ResponseEntity<Void> changeStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody ReleaseStatusChangeDTO dto
+    ) {
+        releaseService.changeStatus(id, ReleaseStatus.fromDisplayName(dto.getStatus()));
+        return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,80 @@
+package com.example.releasetracker.controller;
+
+import com.example.releasetracker.exception.PreconditionFailedException;
+
+/**
+ * Converts between release versions and HTTP entity tags.
+ *
+ * The version is exposed as a strong ETag, e.g. {@code "3"}.
+ */
+final class ReleaseETags {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ReleaseETags() {
+    }
+
+    /**
+     * @param version release version
+     * @return quoted strong entity tag
+     */
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} header against the current version.
+     * Uses weak comparison, as required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch header value, may be {@code null}
+     * @param version     current version
+     * @return {@code true} if the client already has the current representation
+     */
+    static boolean matches(String ifNoneMatch, Long version) {
+        if (ifNoneMatch == null || version == null) {
+            return false;
+        }
+
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(WILDCARD) || candidate.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the version the client expects.
+     *
+     * @param id      release ID, used for the error message
+     * @param ifMatch header value, may be {@code null}
+     * @return expected version, or {@code null} if any version is acceptable
+     * @throws PreconditionFailedException if the header holds a weak tag, which never matches
+     * @throws IllegalArgumentException    if the header is not a single entity tag
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(WILDCARD)) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            throw new PreconditionFailedException(id);
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
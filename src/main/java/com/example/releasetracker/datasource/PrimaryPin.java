@@ -0,0 +1,30 @@
+package com.example.releasetracker.datasource;
+
+/**
+ * Per-request flag that keeps read-only transactions on the primary database.
+ *
+ * Set by {@link ReadYourWritesFilter} for clients that wrote recently, so they
+ * do not read their own change back from a replica that has not caught up yet.
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    /**
+     * Routes all transactions of the current thread to the primary until {@link #clear()}.
+     */
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.releasetracker.domain.entity;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A release moved out of the {@code releases} table by the archive job.
+ *
+ * Attribute names match {@link Release}, so release specifications apply to
+ * archived releases as well. Archived releases are read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "releases_archive")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedRelease {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReleaseStatus status;
+
+    private LocalDate releaseDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastUpdateAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
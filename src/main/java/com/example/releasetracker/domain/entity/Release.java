@@ -3,12 +3,14 @@ package com.example.releasetracker.domain.entity;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "releases")
+@SQLRestriction("deleted_at is null")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +18,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Release {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "releases_seq")
+    @SequenceGenerator(name = "releases_seq", sequenceName = "releases_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -37,4 +40,11 @@ public class Release {
     @Column(nullable = false)
     private LocalDateTime lastUpdateAt;
 
+    // Set instead of deleting the row; deleted releases are only visible to the change sync
+    private LocalDateTime deletedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
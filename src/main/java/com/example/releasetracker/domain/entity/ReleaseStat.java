@@ -0,0 +1,25 @@
+package com.example.releasetracker.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Number of releases in one bucket of a statistics dimension,
+ * e.g. dimension {@code status}, bucket {@code ON_DEV}.
+ *
+ * Maintained incrementally by {@link com.example.releasetracker.service.ReleaseStatsService}.
+ */
+@Entity
+@Table(name = "release_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseStat {
+
+    @EmbeddedId
+    private ReleaseStatId id;
+
+    @Column(nullable = false)
+    private long releaseCount;
+}
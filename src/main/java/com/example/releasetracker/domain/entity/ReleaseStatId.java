@@ -0,0 +1,35 @@
+package com.example.releasetracker.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+/**
+ * Key of a {@link ReleaseStat} counter: the dimension it belongs to and the bucket within it.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseStatId implements Serializable, Comparable<ReleaseStatId> {
+
+    private static final Comparator<ReleaseStatId> ORDER = Comparator
+            .comparing(ReleaseStatId::getDimension)
+            .thenComparing(ReleaseStatId::getBucket);
+
+    @Column(length = 16)
+    private String dimension;
+
+    @Column(length = 32)
+    private String bucket;
+
+    @Override
+    public int compareTo(ReleaseStatId other) {
+        return ORDER.compare(this, other);
+    }
+}
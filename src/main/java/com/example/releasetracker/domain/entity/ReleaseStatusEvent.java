@@ -0,0 +1,38 @@
+package com.example.releasetracker.domain.entity;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only status history of a release.
+ * Rows are written by {@link com.example.releasetracker.history.StatusEventWriter}.
+ */
+@Entity
+@Table(name = "release_status_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReleaseStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long releaseId;
+
+    @Enumerated(EnumType.STRING)
+    private ReleaseStatus fromStatus;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReleaseStatus toStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
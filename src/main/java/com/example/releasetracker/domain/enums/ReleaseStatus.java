@@ -5,8 +5,8 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonValue;
 import org.springframework.lang.NonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +23,11 @@ public enum ReleaseStatus {
 
     private final String displayName;
 
+    // Derived from the transition map once all constants exist, see static initializer
+    private int nextMask;
+    private List<ReleaseStatus> allowedNext;
+    private List<ReleaseStatus> allowedPrevious;
+
 
     @JsonValue
     public String getDisplayName() {
@@ -41,31 +46,84 @@ public enum ReleaseStatus {
             DONE, List.of(ON_PROD)
     );
 
+    // values() clones the array on every call, so keep one copy
+    private static final ReleaseStatus[] VALUES = values();
+
+    // Candidates bucketed by display name length; a lookup compares against one or two names
+    private static final ReleaseStatus[][] BY_NAME_LENGTH;
+
+    // The list of valid values never changes, so the error message tail is built once
+    private static final String INVALID_STATUS_SUFFIX =
+            ". Valid values: " + Arrays.stream(VALUES).map(ReleaseStatus::getDisplayName).toList();
+
+    static {
+        int maxLength = 0;
+        for (ReleaseStatus status : VALUES) {
+            for (ReleaseStatus next : transitions.getOrDefault(status, List.of())) {
+                status.nextMask |= next.bit();
+            }
+            maxLength = Math.max(maxLength, status.displayName.length());
+        }
+
+        for (ReleaseStatus status : VALUES) {
+            List<ReleaseStatus> next = new ArrayList<>();
+            List<ReleaseStatus> previous = new ArrayList<>();
+            for (ReleaseStatus other : VALUES) {
+                if ((status.nextMask & other.bit()) != 0) {
+                    next.add(other);
+                }
+                if ((other.nextMask & status.bit()) != 0) {
+                    previous.add(other);
+                }
+            }
+            status.allowedNext = List.copyOf(next);
+            status.allowedPrevious = List.copyOf(previous);
+        }
+
+        BY_NAME_LENGTH = new ReleaseStatus[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            final int bucket = length;
+            BY_NAME_LENGTH[length] = Arrays.stream(VALUES)
+                    .filter(s -> s.displayName.length() == bucket)
+                    .toArray(ReleaseStatus[]::new);
+        }
+    }
+
     ReleaseStatus(String displayName) {
         this.displayName = displayName;
     }
 
+    private int bit() {
+        return 1 << ordinal();
+    }
+
 
     public boolean canTransitionTo(ReleaseStatus target) {
-        return target != null && transitions.getOrDefault(this, List.of()).contains(target);
+        return target != null && (nextMask & target.bit()) != 0;
     }
 
     public List<ReleaseStatus> allowedNext() {
-        return Collections.unmodifiableList(transitions.getOrDefault(this, List.of()));
+        return allowedNext;
+    }
+
+    public List<ReleaseStatus> allowedPrevious() {
+        return allowedPrevious;
     }
 
     public static @NonNull ReleaseStatus fromDisplayName(@NonNull String name) {
-        return Arrays.stream(values())
-                .filter(s -> s.displayName.equalsIgnoreCase(name))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Invalid status: " + name + ". Valid values: " +
-                                Arrays.stream(values()).map(ReleaseStatus::getDisplayName).toList()
-                ));
+        if (name != null && name.length() < BY_NAME_LENGTH.length) {
+            for (ReleaseStatus status : BY_NAME_LENGTH[name.length()]) {
+                if (status.displayName.equalsIgnoreCase(name)) {
+                    return status;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid status: " + name + INVALID_STATUS_SUFFIX);
     }
 
     @JsonCreator
     public static ReleaseStatus fromJson(String value) {
         return fromDisplayName(value);
     }
-}
\ No newline at end of file
+}
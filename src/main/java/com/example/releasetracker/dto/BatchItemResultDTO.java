@@ -0,0 +1,22 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BatchItemResultDTO {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "HTTP status the item would have received as a single request", example = "201")
+    private int status;
+
+    @Schema(description = "Reason the item was rejected", example = "name must not be blank")
+    private String error;
+
+    @Schema(description = "Stored release, present for successful items")
+    private ReleaseResponseDTO release;
+}
@@ -0,0 +1,21 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchResultDTO {
+
+    @Schema(description = "Number of items that were stored", example = "9")
+    private int succeeded;
+
+    @Schema(description = "Number of items that were rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "Per-item results, in request order")
+    private List<BatchItemResultDTO> results;
+}
@@ -0,0 +1,18 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ReleaseBatchUpdateDTO extends ReleaseRequestDTO {
+
+    @NotNull
+    @Schema(description = "ID of the release to update", example = "1")
+    private Long id;
+
+    @Schema(description = "Expected current version; the item is rejected if the release has changed", example = "3")
+    private Long version;
+}
@@ -0,0 +1,24 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ReleaseChangesDTO {
+
+    @Schema(description = "Releases created or updated since the token, in their current state")
+    private List<ReleaseResponseDTO> changed;
+
+    @Schema(description = "Releases deleted since the token")
+    private List<ReleaseTombstoneDTO> deleted;
+
+    @Schema(description = "Token to pass as since on the next call", example = "MjAyNi0wMi0xNlQxNDowMHw0Mg")
+    private String token;
+
+    @Schema(description = "Whether more changes are available right away with the new token", example = "false")
+    private boolean hasMore;
+}
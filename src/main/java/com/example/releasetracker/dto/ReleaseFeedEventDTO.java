@@ -0,0 +1,27 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ReleaseFeedEventDTO {
+
+    @Schema(description = "Kind of change", example = "STATUS_CHANGED")
+    private String type;
+
+    @Schema(description = "Release ID", example = "1")
+    private Long releaseId;
+
+    @Schema(description = "Status after the change; absent for deletes", example = "In Development")
+    private String status;
+
+    @Schema(description = "Status before the change; absent for creates", example = "Created")
+    private String previousStatus;
+
+    @Schema(description = "When the change happened", example = "2026-02-16T14:00:00")
+    private LocalDateTime occurredAt;
+}
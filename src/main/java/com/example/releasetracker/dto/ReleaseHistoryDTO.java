@@ -0,0 +1,22 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class ReleaseHistoryDTO {
+
+    @Schema(description = "Release ID", example = "1")
+    private Long releaseId;
+
+    @Schema(description = "Status changes, oldest first")
+    private List<ReleaseStatusEventDTO> events;
+
+    @Schema(description = "Total seconds spent in each status; the current status counts up to now")
+    private Map<String, Long> dwellSeconds;
+}
@@ -0,0 +1,21 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ReleasePageDTO<T> {
+
+    @Schema(description = "Releases on this page, ordered by release date and ID; only the requested fields when fields is set")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor for the next page; absent on the last page", example = "MjAyNi0wMi0xNzo0Mg")
+    private String nextCursor;
+
+    @Schema(description = "Page size that was applied", example = "50")
+    private int limit;
+}
@@ -3,12 +3,14 @@ package com.example.releasetracker.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@Jacksonized
 public class ReleaseResponseDTO {
 
     @Schema(description = "Release ID", example = "1")
@@ -31,4 +33,7 @@ public class ReleaseResponseDTO {
 
     @Schema(description = "Timestamp of last update", example = "2026-02-16T14:00:00")
     private LocalDateTime lastUpdatedAt;
+
+    @Schema(description = "Version of the release, also returned as the ETag", example = "3")
+    private Long version;
 }
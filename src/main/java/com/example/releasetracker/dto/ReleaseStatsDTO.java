@@ -0,0 +1,21 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class ReleaseStatsDTO {
+
+    @Schema(description = "Total number of releases", example = "42")
+    private long total;
+
+    @Schema(description = "Number of releases per status, in workflow order")
+    private Map<String, Long> byStatus;
+
+    @Schema(description = "Number of releases per release month (yyyy-MM); releases without a date are counted under \"none\"")
+    private Map<String, Long> byMonth;
+}
@@ -0,0 +1,13 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class ReleaseStatusChangeDTO {
+
+    @NotBlank
+    @Schema(description = "New status of the release", example = "On DEV")
+    private String status;
+}
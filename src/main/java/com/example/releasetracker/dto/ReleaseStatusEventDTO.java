@@ -0,0 +1,21 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ReleaseStatusEventDTO {
+
+    @Schema(description = "Previous status; absent for the event that created the release", example = "Created")
+    private String fromStatus;
+
+    @Schema(description = "Status the release entered", example = "In Development")
+    private String toStatus;
+
+    @Schema(description = "When the status changed", example = "2026-02-16T14:00:00")
+    private LocalDateTime occurredAt;
+}
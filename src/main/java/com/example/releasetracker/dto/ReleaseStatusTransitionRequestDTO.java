@@ -0,0 +1,34 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class ReleaseStatusTransitionRequestDTO {
+
+    @NotBlank
+    @Schema(description = "Status to move the releases to", example = "On PROD")
+    private String targetStatus;
+
+    @Schema(description = "Releases to move; when absent, the filter fields select them", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Filter by release name (partial match)", example = "Release v1")
+    private String name;
+
+    @Schema(description = "Filter by description (partial match)", example = "features")
+    private String description;
+
+    @Schema(description = "Filter by current release status", example = "QA Done on STAGING")
+    private String status;
+
+    @Schema(description = "Filter releases from this date", example = "2026-02-01")
+    private LocalDate fromDate;
+
+    @Schema(description = "Filter releases up to this date", example = "2026-02-28")
+    private LocalDate toDate;
+}
@@ -0,0 +1,35 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ReleaseStatusTransitionResultDTO {
+
+    @Schema(description = "Status the releases were moved to", example = "On PROD")
+    private String targetStatus;
+
+    @Schema(description = "IDs of releases that were moved", example = "[1, 2]")
+    private List<Long> moved;
+
+    @Schema(description = "Releases that were not moved, with the reason")
+    private List<Rejected> rejected;
+
+    @Data
+    @Builder
+    public static class Rejected {
+
+        @Schema(description = "Release ID", example = "3")
+        private Long id;
+
+        @Schema(description = "Current status of the release, absent if it does not exist", example = "Created")
+        private String currentStatus;
+
+        @Schema(description = "Why the release was not moved", example = "Cannot change status from Created to On PROD")
+        private String reason;
+    }
+}
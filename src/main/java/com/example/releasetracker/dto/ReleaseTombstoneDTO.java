@@ -0,0 +1,18 @@
+package com.example.releasetracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class ReleaseTombstoneDTO {
+
+    @Schema(description = "ID of the deleted release", example = "1")
+    private Long id;
+
+    @Schema(description = "When the release was deleted", example = "2026-02-16T14:00:00")
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,55 @@
+package com.example.releasetracker.event;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published by the services for every change to a release.
+ *
+ * Listeners use {@code @TransactionalEventListener}, so they only see changes
+ * that were committed.
+ *
+ * @param type       kind of change
+ * @param releaseId  release ID
+ * @param fromStatus status before the change, {@code null} when the release was created
+ * @param toStatus   status after the change, {@code null} when the release was deleted
+ * @param occurredAt when the change happened
+ */
+public record ReleaseChanged(
+        Type type,
+        Long releaseId,
+        ReleaseStatus fromStatus,
+        ReleaseStatus toStatus,
+        LocalDateTime occurredAt) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static ReleaseChanged created(Long releaseId, ReleaseStatus status, LocalDateTime occurredAt) {
+        return new ReleaseChanged(Type.CREATED, releaseId, null, status, occurredAt);
+    }
+
+    public static ReleaseChanged updated(Long releaseId, ReleaseStatus fromStatus, ReleaseStatus toStatus, LocalDateTime occurredAt) {
+        return new ReleaseChanged(Type.UPDATED, releaseId, fromStatus, toStatus, occurredAt);
+    }
+
+    public static ReleaseChanged statusChanged(Long releaseId, ReleaseStatus fromStatus, ReleaseStatus toStatus, LocalDateTime occurredAt) {
+        return new ReleaseChanged(Type.STATUS_CHANGED, releaseId, fromStatus, toStatus, occurredAt);
+    }
+
+    public static ReleaseChanged deleted(Long releaseId, ReleaseStatus status, LocalDateTime occurredAt) {
+        return new ReleaseChanged(Type.DELETED, releaseId, status, null, occurredAt);
+    }
+
+    /**
+     * @return whether the release entered a new status with this change
+     */
+    public boolean entersStatus() {
+        return toStatus != null && toStatus != fromStatus;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.releasetracker.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application event published when a batch of releases was moved to the archive.
+ *
+ * Archiving is not a change to the releases themselves, so it produces no
+ * {@link ReleaseChanged} history or change feed entries; listeners that hold
+ * list results still have to drop them.
+ *
+ * @param releaseIds archived release IDs
+ * @param occurredAt when the batch was archived
+ */
+public record ReleasesArchived(List<Long> releaseIds, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.releasetracker.exception;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+    public ChangeTokenExpiredException() {
+        super("Change token is older than the tombstone retention, start a full sync without since");
+    }
+}
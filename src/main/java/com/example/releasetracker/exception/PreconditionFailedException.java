@@ -0,0 +1,11 @@
+package com.example.releasetracker.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(Long id) {
+        super("Release with id " + id + " does not match the If-Match precondition");
+    }
+
+    public PreconditionFailedException(Long id, Long expectedVersion, Long currentVersion) {
+        super("Release with id " + id + " has version " + currentVersion + ", expected " + expectedVersion);
+    }
+}
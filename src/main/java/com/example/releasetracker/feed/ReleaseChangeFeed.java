@@ -0,0 +1,241 @@
+package com.example.releasetracker.feed;
+
+import com.example.releasetracker.config.ChangeFeedProperties;
+import com.example.releasetracker.dto.ReleaseFeedEventDTO;
+import com.example.releasetracker.event.ReleaseChanged;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes committed release changes to server-sent events subscribers.
+ *
+ * Each event is serialized once and handed to every subscriber's bounded
+ * queue; a virtual thread per subscriber drains its queue to the connection.
+ * Publishing never blocks: a subscriber whose queue is full is disconnected
+ * and has to reconnect.
+ *
+ * The most recent events are kept in a ring buffer. A client reconnecting
+ * with {@code Last-Event-ID} gets the events it missed replayed; if they are
+ * no longer available (or the server restarted), it receives a {@code reset}
+ * event and should reload the full list.
+ */
+@Component
+public class ReleaseChangeFeed {
+
+    static final String RESET = "reset";
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseChangeFeed.class);
+
+    private final ObjectMapper objectMapper;
+    private final ChangeFeedProperties properties;
+
+    // Event IDs are "<epoch>-<sequence>", so IDs from before a restart are recognized as unknown
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Entry[] recent;
+    private long sequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+
+    public ReleaseChangeFeed(ObjectMapper objectMapper, ChangeFeedProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.recent = new Entry[properties.replaySize()];
+
+        Gauge.builder("releases.feed.subscribers", subscribers, Set::size)
+                .description("Connected change feed subscribers")
+                .register(registry);
+        this.dropped = Counter.builder("releases.feed.dropped")
+                .description("Change feed subscribers disconnected because they could not keep up")
+                .register(registry);
+    }
+
+    /**
+     * Publishes a committed change to all subscribers.
+     *
+     * @param event committed change
+     */
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChanged event) {
+        String data = serialize(event);
+
+        lock.lock();
+        try {
+            Entry entry = new Entry(++sequence, event.type().name(), data);
+            recent[(int) (entry.sequence() % recent.length)] = entry;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens a new subscription.
+     *
+     * @param lastEventId ID of the last event the client received, or {@code null} for a new client
+     * @return emitter streaming the events
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        // Replay and registration happen under the publish lock, so no event is missed or sent twice
+        lock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(lastEventId, subscriber);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.start();
+
+        log.info("Change feed subscriber connected, lastEventId={}, {} subscribers", lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    private void replay(String lastEventId, Subscriber subscriber) {
+        long last = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - recent.length + 1);
+        long missed = sequence - last;
+
+        if (last < 0 || last > sequence || last + 1 < oldest || missed > properties.subscriberBuffer()) {
+            subscriber.offer(new Entry(0, RESET, "{}"));
+            return;
+        }
+
+        for (long s = last + 1; s <= sequence; s++) {
+            subscriber.offer(recent[(int) (s % recent.length)]);
+        }
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String serialize(ReleaseChanged event) {
+        ReleaseFeedEventDTO dto = ReleaseFeedEventDTO.builder()
+                .type(event.type().name())
+                .releaseId(event.releaseId())
+                .status(event.toStatus() != null ? event.toStatus().getDisplayName() : null)
+                .previousStatus(event.fromStatus() != null ? event.fromStatus().getDisplayName() : null)
+                .occurredAt(event.occurredAt())
+                .build();
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(long sequence, String name, String data) {
+    }
+
+    /**
+     * One connected client with its bounded queue and draining thread.
+     */
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(properties.subscriberBuffer());
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+        private Thread drainer;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Entry entry) {
+            if (!overflowed && !queue.offer(entry)) {
+                overflowed = true;
+                subscribers.remove(this);
+                dropped.increment();
+                log.warn("Dropping slow change feed subscriber, {} events queued", queue.size());
+            }
+        }
+
+        void start() {
+            drainer = Thread.ofVirtual().name("release-feed-subscriber").start(this::drain);
+        }
+
+        private void drain() {
+            long heartbeatMillis = properties.heartbeat().toMillis();
+            try {
+                while (!closed) {
+                    Entry entry = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (overflowed) {
+                        emitter.complete();
+                        return;
+                    }
+                    if (entry == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        send(entry);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client disconnected or the emitter already completed
+                log.debug("Change feed subscriber gone: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void send(Entry entry) throws IOException {
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (entry.sequence() > 0) {
+                event.id(epoch + "-" + entry.sequence());
+            }
+            emitter.send(event.name(entry.name()).data(entry.data(), MediaType.APPLICATION_JSON));
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            if (drainer != null && drainer != Thread.currentThread()) {
+                drainer.interrupt();
+            }
+        }
+    }
+}
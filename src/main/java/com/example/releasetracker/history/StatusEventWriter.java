@@ -0,0 +1,191 @@
+package com.example.releasetracker.history;
+
+import com.example.releasetracker.config.StatusEventProperties;
+import com.example.releasetracker.event.ReleaseChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends status changes to {@code release_status_events} off the request thread.
+ *
+ * Committed changes are put into a bounded in-memory buffer, and a single
+ * background thread writes whatever has accumulated as one JDBC batch.
+ * Under load batches grow on their own; when idle each event is written
+ * as soon as it arrives. If the buffer is full, the event is written
+ * synchronously on the caller's thread instead of being dropped.
+ *
+ * Events still buffered when the application shuts down are written before
+ * the data source closes. Events buffered at the moment of a crash are lost.
+ */
+@Component
+public class StatusEventWriter implements SmartLifecycle {
+
+    private static final String INSERT = "insert into release_status_events " +
+            "(release_id, from_status, to_status, occurred_at) values (?, ?, ?, ?)";
+
+    // How often the writer thread checks for shutdown while idle
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    // How long flush() waits for a batch the writer thread is still writing
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final Logger log = LoggerFactory.getLogger(StatusEventWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ReleaseChanged> buffer;
+    // Buffered events not yet written, including those the writer thread has taken out of the buffer
+    private final AtomicInteger unwritten = new AtomicInteger();
+    private final int batchSize;
+    private final Counter synchronousWrites;
+    private final Counter failedEvents;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public StatusEventWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             StatusEventProperties properties,
+                             MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Always a fresh transaction: after-commit callbacks must not reuse the committed one
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new ArrayBlockingQueue<>(properties.bufferCapacity());
+        this.batchSize = properties.batchSize();
+
+        Gauge.builder("releases.status-events.buffered", buffer, BlockingQueue::size)
+                .description("Status events waiting to be written")
+                .register(registry);
+        this.synchronousWrites = Counter.builder("releases.status-events.synchronous")
+                .description("Status events written on the request thread because the buffer was full")
+                .register(registry);
+        this.failedEvents = Counter.builder("releases.status-events.failed")
+                .description("Status events that could not be written")
+                .register(registry);
+    }
+
+    /**
+     * Buffers a status change once the transaction that made it has committed.
+     * Changes that leave the status as it was are ignored.
+     *
+     * @param event committed change
+     */
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChanged event) {
+        if (!event.entersStatus()) {
+            return;
+        }
+
+        unwritten.incrementAndGet();
+        if (!buffer.offer(event)) {
+            unwritten.decrementAndGet();
+            synchronousWrites.increment();
+            write(List.of(event));
+        }
+    }
+
+    /**
+     * Writes all currently buffered events on the calling thread and waits
+     * for the batch the writer thread may be writing at the same time.
+     */
+    public void flush() {
+        List<ReleaseChanged> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            writeBuffered(batch);
+            batch.clear();
+        }
+
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (unwritten.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void run() {
+        List<ReleaseChanged> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ReleaseChanged first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                writeBuffered(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBuffered(List<ReleaseChanged> events) {
+        try {
+            write(events);
+        } finally {
+            unwritten.addAndGet(-events.size());
+        }
+    }
+
+    private void write(List<ReleaseChanged> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+                        ps.setLong(1, event.releaseId());
+                        ps.setString(2, event.fromStatus() != null ? event.fromStatus().name() : null);
+                        ps.setString(3, event.toStatus().name());
+                        ps.setObject(4, event.occurredAt());
+                    }));
+        } catch (DataAccessException | TransactionException e) {
+            failedEvents.increment(events.size());
+            log.error("Failed to write {} status events", events.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("status-event-writer").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
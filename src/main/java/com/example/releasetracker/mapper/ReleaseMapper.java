@@ -1,5 +1,6 @@
 package com.example.releasetracker.mapper;
 
+import com.example.releasetracker.domain.entity.ArchivedRelease;
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
 import com.example.releasetracker.dto.ReleaseRequestDTO;
@@ -33,6 +34,20 @@ public class ReleaseMapper {
                 .releaseDate(entity.getReleaseDate())
                 .createdAt(entity.getCreatedAt())
                 .lastUpdatedAt(entity.getLastUpdateAt())
+                .version(entity.getVersion())
+                .build();
+    }
+
+    public ReleaseResponseDTO toDTO(ArchivedRelease entity) {
+        return ReleaseResponseDTO.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .status(entity.getStatus().getDisplayName())
+                .releaseDate(entity.getReleaseDate())
+                .createdAt(entity.getCreatedAt())
+                .lastUpdatedAt(entity.getLastUpdateAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,96 @@
+package com.example.releasetracker.metrics;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseSpecification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application-level meters for the release API.
+ *
+ * Latency of endpoints, service methods, the connection pool and Hibernate
+ * is recorded by Spring Boot and Micrometer; this class covers the
+ * domain-specific signals that have no generic instrumentation. Tagged meters
+ * are registered on first use and kept, so recording does not go through the
+ * registry on every call.
+ */
+@Component
+public class ReleaseMetrics {
+
+    private final MeterRegistry registry;
+    private final DistributionSummary listResults;
+    private final DistributionSummary searchResults;
+    private final Map<FilterShape, Timer> shapeTimers = new ConcurrentHashMap<>();
+    private final Map<Transition, Counter> rejectedTransitions = new ConcurrentHashMap<>();
+
+    public ReleaseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.listResults = filterResults(registry, "list");
+        this.searchResults = filterResults(registry, "search");
+    }
+
+    private static DistributionSummary filterResults(MeterRegistry registry, String mode) {
+        return DistributionSummary.builder("releases.filter.results")
+                .description("Number of releases returned by a single filter call")
+                .baseUnit("releases")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Records how many releases a filter call returned.
+     *
+     * @param size   number of returned releases
+     * @param search whether the call ran in full-text search mode
+     */
+    public void recordFilterResults(int size, boolean search) {
+        (search ? searchResults : listResults).record(size);
+    }
+
+    /**
+     * Records the query time of a filter call under its shape, so slow
+     * parameter combinations (candidates for a composite index) stand out.
+     *
+     * @param shape shape from {@link ReleaseSpecification#shapeOf}
+     * @param mode  {@code list}, {@code fields} or {@code search}
+     * @param nanos time spent in the query
+     */
+    public void recordFilterShape(int shape, String mode, long nanos) {
+        shapeTimers.computeIfAbsent(new FilterShape(shape, mode), key -> Timer.builder("releases.filter.shape")
+                        .description("Query time of filter calls per combination of present filter parameters")
+                        .tag("shape", ReleaseSpecification.shapeName(key.shape()))
+                        .tag("mode", key.mode())
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a status transition rejected by the workflow rules.
+     *
+     * @param from current status
+     * @param to   requested status
+     */
+    public void transitionRejected(ReleaseStatus from, ReleaseStatus to) {
+        rejectedTransitions.computeIfAbsent(new Transition(from, to), key -> Counter.builder("releases.transitions.rejected")
+                        .description("Status transitions rejected by the workflow rules")
+                        .tag("from", key.from().name())
+                        .tag("to", key.to().name())
+                        .register(registry))
+                .increment();
+    }
+
+    private record FilterShape(int shape, String mode) {
+    }
+
+    private record Transition(ReleaseStatus from, ReleaseStatus to) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.releasetracker.metrics;
+
+import java.util.Locale;
+
+/**
+ * Per-request phase timings, kept in a thread-local for the request thread.
+ *
+ * Timing is only active between {@link #begin()} and {@link #end()}, which
+ * {@link ServerTimingFilter} calls when Server-Timing is enabled. Otherwise
+ * {@link #start()} and {@link #stop(Phase, long)} reduce to a thread-local
+ * lookup and allocate nothing.
+ *
+ * Typical use around a phase:
+ * <pre>
+ * long start = RequestTimings.start();
+ * ...
+ * RequestTimings.stop(Phase.MAP, start);
+ * </pre>
+ */
+public final class RequestTimings {
+
+    /**
+     * Measured phases of a request.
+     */
+    public enum Phase {
+        /** Building the {@code ReleaseSpecification}. */
+        SPEC,
+        /** A repository call as a whole; hydration is what remains after subtracting SQL time. */
+        QUERY,
+        /** JDBC statement execution, reported by {@link SqlTimingListener}. */
+        SQL,
+        /** {@code ReleaseMapper} conversions. */
+        MAP,
+        /** Writing the response body. */
+        SERIALIZE
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long serializationStartedAt;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Starts timing the current request.
+     *
+     * @return timings of the current request
+     */
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Stops timing the current request.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the start mark of a phase.
+     *
+     * @return current {@link System#nanoTime()}, or 0 if timing is not active
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time since {@code start} to the given phase.
+     *
+     * @param phase measured phase
+     * @param start mark returned by {@link #start()}
+     */
+    public static void stop(Phase phase, long start) {
+        if (start == 0L) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Marks the point where the response body starts being written.
+     * The serialize phase ends when the filter chain returns.
+     */
+    public static void serializationStarted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.serializationStartedAt == 0L) {
+            timings.serializationStartedAt = System.nanoTime();
+        }
+    }
+
+    private void add(Phase phase, long elapsed) {
+        nanos[phase.ordinal()] += elapsed;
+        counts[phase.ordinal()]++;
+    }
+
+    /**
+     * Closes the serialize phase, if it was started.
+     */
+    void finishSerialization() {
+        if (serializationStartedAt != 0L) {
+            add(Phase.SERIALIZE, System.nanoTime() - serializationStartedAt);
+            serializationStartedAt = 0L;
+        }
+    }
+
+    /**
+     * @return nanoseconds since {@link #begin()}
+     */
+    long elapsed() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * Renders the timings as a {@code Server-Timing} header value.
+     * Phases that did not run are left out.
+     *
+     * @param total total request time in nanoseconds
+     * @return header value
+     */
+    String toHeader(long total) {
+        StringBuilder header = new StringBuilder(128);
+        appendPhase(header, "spec", Phase.SPEC, nanos[Phase.SPEC.ordinal()], null);
+
+        int statements = counts[Phase.SQL.ordinal()];
+        appendPhase(header, "sql", Phase.SQL, nanos[Phase.SQL.ordinal()],
+                statements + (statements == 1 ? " statement" : " statements"));
+
+        // Time spent in repository calls that was not JDBC execution: reading rows and building entities
+        long hydrate = Math.max(0L, nanos[Phase.QUERY.ordinal()] - nanos[Phase.SQL.ordinal()]);
+        appendPhase(header, "hydrate", Phase.QUERY, hydrate, null);
+
+        appendPhase(header, "map", Phase.MAP, nanos[Phase.MAP.ordinal()], null);
+        appendPhase(header, "serialize", Phase.SERIALIZE, nanos[Phase.SERIALIZE.ordinal()], null);
+        appendDuration(header, "total", total);
+        return header.toString();
+    }
+
+    private void appendPhase(StringBuilder header, String name, Phase phase, long phaseNanos, String description) {
+        if (counts[phase.ordinal()] == 0) {
+            return;
+        }
+        appendDuration(header, name, phaseNanos);
+        if (description != null) {
+            header.append(";desc=\"").append(description).append('"');
+        }
+        header.append(", ");
+    }
+
+    private static void appendDuration(StringBuilder header, String name, long phaseNanos) {
+        header.append(name).append(";dur=")
+                .append(String.format(Locale.ROOT, "%.2f", phaseNanos / NANOS_PER_MILLI));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.releasetracker.metrics;
+
+import com.example.releasetracker.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds a {@code Server-Timing} header with the phase breakdown of each API request
+ * and logs requests slower than the configured threshold.
+ *
+ * The response body is buffered so the header can still be set after the body
+ * has been serialized. Streaming endpoints are excluded through
+ * {@link ServerTimingProperties#excludedPaths()}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "release-tracker.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final ServerTimingProperties properties;
+    private final long slowThresholdNanos;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith(API_PREFIX) || properties.excludedPaths().contains(uri);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.end();
+            timings.finishSerialization();
+
+            long total = timings.elapsed();
+            String header = timings.toHeader(total);
+            wrapper.setHeader(SERVER_TIMING, header);
+
+            if (total >= slowThresholdNanos) {
+                log.warn("Slow request {} {} took {} ms: {}", request.getMethod(), request.getRequestURI(),
+                        TimeUnit.NANOSECONDS.toMillis(total), header);
+            }
+
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
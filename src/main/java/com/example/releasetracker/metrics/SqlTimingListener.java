@@ -0,0 +1,35 @@
+package com.example.releasetracker.metrics;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Reports JDBC statement execution time to {@link RequestTimings}.
+ *
+ * Hibernate creates one instance per session, so the start marks
+ * need no synchronization. Only registered when Server-Timing is enabled.
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = RequestTimings.start();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.stop(RequestTimings.Phase.SQL, executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = RequestTimings.start();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.stop(RequestTimings.Phase.SQL, batchStart);
+    }
+}
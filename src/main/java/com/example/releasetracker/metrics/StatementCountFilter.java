@@ -0,0 +1,65 @@
+package com.example.releasetracker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each API request executed,
+ * tagged with the same method and URI template as {@code http.server.requests}.
+ *
+ * Statements are counted by {@link StatementCounter}. Work continued on another
+ * thread (asynchronous exports) is not attributed to the request. One summary
+ * is registered per method and URI template and reused for later requests.
+ */
+@Component
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    private final MeterRegistry registry;
+    private final Map<Endpoint, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public StatementCountFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.stop();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Endpoint endpoint = new Endpoint(request.getMethod(), uri != null ? uri.toString() : "UNKNOWN");
+
+            summaries.computeIfAbsent(endpoint, key -> DistributionSummary.builder("http.server.requests.statements")
+                            .description("SQL statements executed per request")
+                            .tag("method", key.method())
+                            .tag("uri", key.uri())
+                            .publishPercentileHistogram()
+                            .register(registry))
+                    .record(statements);
+        }
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.ArchivedRelease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedReleaseRepository extends JpaRepository<ArchivedRelease, Long>, JpaSpecificationExecutor<ArchivedRelease> {
+
+    /**
+     * Copies releases into the archive with a single statement.
+     *
+     * @param ids releases to copy
+     * @param now archive timestamp to store
+     * @return number of rows copied
+     */
+    @Modifying
+    @Query(value = "insert into releases_archive " +
+            "(id, name, description, status, release_date, created_at, last_update_at, version, archived_at) " +
+            "select id, name, description, status, release_date, created_at, last_update_at, version, :now " +
+            "from releases where id in (:ids)", nativeQuery = true)
+    int copyFromReleases(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Counts archived releases per status.
+     *
+     * @return one entry per status that has archived releases
+     */
+    @Query("select new com.example.releasetracker.repository.ReleaseStatusCount(r.status, count(r)) " +
+            "from ArchivedRelease r group by r.status")
+    List<ReleaseStatusCount> countByStatus();
+
+    /**
+     * Counts archived releases per release month.
+     *
+     * @return one entry per month that has archived releases, plus one for releases without a date
+     */
+    @Query("select new com.example.releasetracker.repository.ReleaseMonthCount(" +
+            "extract(year from r.releaseDate), extract(month from r.releaseDate), count(r)) " +
+            "from ArchivedRelease r group by extract(year from r.releaseDate), extract(month from r.releaseDate)")
+    List<ReleaseMonthCount> countByReleaseMonth();
+}
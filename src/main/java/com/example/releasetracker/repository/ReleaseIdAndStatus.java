@@ -0,0 +1,12 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+
+/**
+ * Lightweight projection of a release, used where the full entity is not needed.
+ *
+ * @param id     release ID
+ * @param status current status
+ */
+public record ReleaseIdAndStatus(Long id, ReleaseStatus status) {
+}
@@ -0,0 +1,11 @@
+package com.example.releasetracker.repository;
+
+/**
+ * Number of releases in one release month.
+ *
+ * @param year  release year, {@code null} for releases without a date
+ * @param month release month (1-12), {@code null} for releases without a date
+ * @param count number of releases
+ */
+public record ReleaseMonthCount(Integer year, Integer month, Long count) {
+}
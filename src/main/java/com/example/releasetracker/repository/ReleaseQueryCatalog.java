@@ -0,0 +1,145 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseCursor;
+import com.example.releasetracker.specification.ReleaseSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.StringJoiner;
+
+import static com.example.releasetracker.specification.ReleaseSpecification.DESCRIPTION_PARAM;
+import static com.example.releasetracker.specification.ReleaseSpecification.FROM_DATE_PARAM;
+import static com.example.releasetracker.specification.ReleaseSpecification.NAME_PARAM;
+import static com.example.releasetracker.specification.ReleaseSpecification.STATUS_PARAM;
+import static com.example.releasetracker.specification.ReleaseSpecification.TO_DATE_PARAM;
+
+/**
+ * JPQL for list pages, written once per filter shape and keyset position.
+ *
+ * A Criteria query is a new object on every call, so Hibernate translates it
+ * to SQL again each time. The strings here never change, so Hibernate parses
+ * each one once and then serves it from its query plan cache; a call only
+ * binds parameter values. Since every shape also yields a fixed SQL text,
+ * the driver's prepared statement cache can reuse the statement.
+ *
+ * The predicates must stay equivalent to {@link ReleaseSpecification#filterBy}
+ * and {@link ReleaseSpecification#after}.
+ */
+public final class ReleaseQueryCatalog {
+
+    /**
+     * Where the page starts; the keyset predicate differs for a NULL release date.
+     */
+    enum Keyset {
+        FIRST_PAGE,
+        AFTER_NULL_DATE,
+        AFTER_DATE;
+
+        static Keyset of(ReleaseCursor cursor) {
+            if (cursor == null) {
+                return FIRST_PAGE;
+            }
+            return cursor.releaseDate() == null ? AFTER_NULL_DATE : AFTER_DATE;
+        }
+    }
+
+    private static final Keyset[] KEYSETS = Keyset.values();
+
+    private static final String[] PAGE_QUERIES = new String[ReleaseSpecification.SHAPE_COUNT * KEYSETS.length];
+
+    static {
+        for (int shape = 0; shape < ReleaseSpecification.SHAPE_COUNT; shape++) {
+            for (Keyset keyset : KEYSETS) {
+                PAGE_QUERIES[shape * KEYSETS.length + keyset.ordinal()] = buildPageQuery(shape, keyset);
+            }
+        }
+    }
+
+    private ReleaseQueryCatalog() {
+    }
+
+    /**
+     * Creates the list page query for the given filters with all parameters bound.
+     *
+     * @param entityManager entity manager to create the query with
+     * @param name          partial match for release name
+     * @param description   partial match for description
+     * @param status        exact match for status
+     * @param fromDate      minimum release date (inclusive)
+     * @param toDate        maximum release date (inclusive)
+     * @param after         position of the last row of the previous page, or {@code null}
+     * @return query selecting matching releases in keyset order
+     */
+    public static TypedQuery<Release> createPageQuery(EntityManager entityManager,
+                                                      String name,
+                                                      String description,
+                                                      ReleaseStatus status,
+                                                      LocalDate fromDate,
+                                                      LocalDate toDate,
+                                                      ReleaseCursor after) {
+        int shape = ReleaseSpecification.shapeOf(name, description, status, fromDate, toDate);
+        TypedQuery<Release> query = entityManager.createQuery(
+                PAGE_QUERIES[shape * KEYSETS.length + Keyset.of(after).ordinal()], Release.class);
+
+        if ((shape & NAME_PARAM) != 0) {
+            query.setParameter("name", containsPattern(name));
+        }
+        if ((shape & DESCRIPTION_PARAM) != 0) {
+            query.setParameter("description", containsPattern(description));
+        }
+        if ((shape & STATUS_PARAM) != 0) {
+            query.setParameter("status", status);
+        }
+        if ((shape & FROM_DATE_PARAM) != 0) {
+            query.setParameter("fromDate", fromDate);
+        }
+        if ((shape & TO_DATE_PARAM) != 0) {
+            query.setParameter("toDate", toDate);
+        }
+        if (after != null) {
+            query.setParameter("afterId", after.id());
+            if (after.releaseDate() != null) {
+                query.setParameter("afterDate", after.releaseDate());
+            }
+        }
+        return query;
+    }
+
+    // Same pattern as ReleaseSpecification.filterBy
+    private static String containsPattern(String value) {
+        return "%" + value.toLowerCase() + "%";
+    }
+
+    private static String buildPageQuery(int shape, Keyset keyset) {
+        StringJoiner where = new StringJoiner(" and ", " where ", "");
+        where.setEmptyValue("");
+
+        if ((shape & NAME_PARAM) != 0) {
+            where.add("lower(r.name) like :name");
+        }
+        if ((shape & DESCRIPTION_PARAM) != 0) {
+            where.add("lower(r.description) like :description");
+        }
+        if ((shape & STATUS_PARAM) != 0) {
+            where.add("r.status = :status");
+        }
+        if ((shape & FROM_DATE_PARAM) != 0) {
+            where.add("r.releaseDate >= :fromDate");
+        }
+        if ((shape & TO_DATE_PARAM) != 0) {
+            where.add("r.releaseDate <= :toDate");
+        }
+
+        switch (keyset) {
+            case AFTER_NULL_DATE -> where.add("(r.releaseDate is not null or r.id > :afterId)");
+            case AFTER_DATE -> where.add("r.releaseDate >= :afterDate and (r.releaseDate > :afterDate or r.id > :afterId)");
+            case FIRST_PAGE -> {
+            }
+        }
+
+        return "select r from Release r" + where + " order by r.releaseDate asc, r.id asc";
+    }
+}
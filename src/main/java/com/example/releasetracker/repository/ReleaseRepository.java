@@ -2,10 +2,177 @@ package com.example.releasetracker.repository;
 
 
 import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ReleaseRepository extends JpaRepository<Release, Long>, JpaSpecificationExecutor<Release> {
+public interface ReleaseRepository extends JpaRepository<Release, Long>, JpaSpecificationExecutor<Release>, ReleaseRepositoryCustom {
+
+    /**
+     * Reads only the version of a release, without loading the entity.
+     *
+     * @param id release ID
+     * @return current version, or empty if the release does not exist
+     */
+    @Query("select r.version from Release r where r.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads only the status of a release, without loading the entity.
+     *
+     * @param id release ID
+     * @return current status, or empty if the release does not exist
+     */
+    @Query("select r.status from Release r where r.id = :id")
+    Optional<ReleaseStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * Locks a release row and reads its status, without loading the entity.
+     *
+     * @param id release ID
+     * @return current status as stored, or empty if the release does not exist
+     */
+    @Query(value = "select r.status from releases r where r.id = :id and r.deleted_at is null for update",
+            nativeQuery = true)
+    Optional<String> lockStatusById(@Param("id") Long id);
+
+    /**
+     * Loads a release whether or not it is deleted, e.g. to read the state a delete left behind.
+     *
+     * @param id release ID
+     * @return release or tombstone, or empty if there is no such row
+     */
+    @Query(value = "select * from releases r where r.id = :id", nativeQuery = true)
+    Optional<Release> findIncludingDeleted(@Param("id") Long id);
+
+    /**
+     * Counts releases per status.
+     *
+     * @return one entry per status that has releases
+     */
+    @Query("select new com.example.releasetracker.repository.ReleaseStatusCount(r.status, count(r)) " +
+            "from Release r group by r.status")
+    List<ReleaseStatusCount> countByStatus();
+
+    /**
+     * Counts releases per release month.
+     *
+     * @return one entry per month that has releases, plus one for releases without a date
+     */
+    @Query("select new com.example.releasetracker.repository.ReleaseMonthCount(" +
+            "extract(year from r.releaseDate), extract(month from r.releaseDate), count(r)) " +
+            "from Release r group by extract(year from r.releaseDate), extract(month from r.releaseDate)")
+    List<ReleaseMonthCount> countByReleaseMonth();
+
+    /**
+     * Marks a release as deleted with a single statement, without loading it first.
+     * The row stays behind as a tombstone for change sync clients.
+     *
+     * @param id  release ID
+     * @param now deletion timestamp, also stored as the last update
+     * @return number of rows changed, {@code 0} if the release does not exist
+     */
+    @Modifying
+    @Query("update Release r set r.deletedAt = :now, r.lastUpdateAt = :now, r.version = r.version + 1 " +
+            "where r.id = :id and r.deletedAt is null")
+    int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Reads releases changed after the given position, including deleted ones,
+     * in {@code (last_update_at, id)} order.
+     *
+     * Native, because the entity restriction would hide the tombstones.
+     * Rows changed at or after {@code until} are left for a later call.
+     *
+     * @param since   last update timestamp of the position
+     * @param afterId ID of the position
+     * @param until   exclusive upper bound on the last update timestamp
+     * @param limit   maximum number of rows
+     * @return changed releases, deleted ones with {@code deletedAt} set
+     */
+    @Query(value = "select * from releases r " +
+            "where r.last_update_at >= :since and (r.last_update_at > :since or r.id > :afterId) " +
+            "and r.last_update_at < :until " +
+            "order by r.last_update_at, r.id limit :limit", nativeQuery = true)
+    List<Release> findChangedSince(
+            @Param("since") LocalDateTime since,
+            @Param("afterId") long afterId,
+            @Param("until") LocalDateTime until,
+            @Param("limit") int limit);
+
+    /**
+     * Locks and returns the IDs of releases that have been Done since before the cutoff.
+     *
+     * @param cutoff releases last updated before this time qualify
+     * @param limit  maximum number of IDs
+     * @return locked release IDs in ascending order
+     */
+    @Query(value = "select r.id from releases r " +
+            "where r.status = 'DONE' and r.last_update_at < :cutoff and r.deleted_at is null " +
+            "order by r.id limit :limit for update", nativeQuery = true)
+    List<Long> lockArchivable(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Physically removes releases that were copied to the archive.
+     *
+     * @param ids archived release IDs
+     * @return number of rows removed
+     */
+    @Modifying
+    @Query(value = "delete from releases where id in (:ids)", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Physically removes tombstones of releases deleted before the cutoff.
+     *
+     * @param cutoff releases deleted before this time are removed
+     * @return number of rows removed
+     */
+    @Modifying
+    @Query(value = "delete from releases where deleted_at < :cutoff", nativeQuery = true)
+    int purgeDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Locks and returns the IDs of the given releases that are still in the given status.
+     * Locked rows cannot change until the end of the transaction, so a following
+     * UPDATE of these IDs changes exactly them.
+     *
+     * @param ids    releases to lock
+     * @param status status the releases are expected to be in, as stored
+     * @return locked release IDs in ascending order
+     */
+    @Query(value = "select r.id from releases r " +
+            "where r.id in (:ids) and r.status = :status and r.deleted_at is null " +
+            "order by r.id for update", nativeQuery = true)
+    List<Long> lockInStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    /**
+     * Moves releases to the target status in a single statement.
+     * Only rows currently in one of the given predecessor statuses are changed,
+     * so the workflow check and the write are atomic.
+     *
+     * @param ids          releases to move
+     * @param predecessors statuses from which the target may be reached
+     * @param target       new status
+     * @param now          last update timestamp to store
+     * @return number of rows changed
+     */
+    @Modifying
+    @Query("update Release r set r.status = :target, r.lastUpdateAt = :now, r.version = r.version + 1 " +
+            "where r.id in :ids and r.status in :predecessors and r.deletedAt is null")
+    int transitionStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("predecessors") Collection<ReleaseStatus> predecessors,
+            @Param("target") ReleaseStatus target,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,104 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseCursor;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for queries that need direct control over
+ * the underlying JPA query.
+ */
+public interface ReleaseRepositoryCustom {
+
+    /**
+     * Streams all releases matching the specification in ID order.
+     *
+     * Rows are fetched from the database in chunks and each entity is
+     * detached as soon as it is emitted, so memory use does not grow with
+     * the size of the result. Must be called inside a transaction and the
+     * returned stream must be closed.
+     *
+     * @param specification filter to apply
+     * @return forward-only stream of detached releases
+     */
+    Stream<Release> streamAll(Specification<Release> specification);
+
+    /**
+     * Reads one list page of releases matching the filters, in keyset order.
+     *
+     * Equivalent to querying with {@code ReleaseSpecification.filterBy} and
+     * {@code ReleaseSpecification.after}, but runs a query prepared once per
+     * filter shape (see {@link ReleaseQueryCatalog}) instead of building and
+     * translating a Criteria query on every call.
+     *
+     * @param name        partial match for release name
+     * @param description partial match for description
+     * @param status      exact match for status
+     * @param fromDate    minimum release date (inclusive)
+     * @param toDate      maximum release date (inclusive)
+     * @param after       position of the last row of the previous page, or {@code null}
+     * @param limit       maximum number of rows
+     * @return matching releases ordered by release date and ID
+     */
+    List<Release> findPage(String name, String description, ReleaseStatus status,
+                           LocalDate fromDate, LocalDate toDate, ReleaseCursor after, int limit);
+
+    /**
+     * Finds releases whose name or description matches the search text,
+     * ordered by relevance (best match first), then by ID.
+     *
+     * Uses the FULLTEXT index on MySQL; see
+     * {@link com.example.releasetracker.config.FullTextSearchFunctionContributor}.
+     *
+     * @param text          search text
+     * @param specification additional filter to apply
+     * @param limit         maximum number of results
+     * @return matching releases, most relevant first
+     */
+    List<Release> search(String text, Specification<Release> specification, int limit);
+
+    /**
+     * Reads ID and status of releases matching the specification, in ID order,
+     * without loading entities into the persistence context.
+     *
+     * @param specification filter to apply
+     * @param limit         maximum number of rows
+     * @return matching ID/status pairs
+     */
+    List<ReleaseIdAndStatus> findStatuses(Specification<Release> specification, int limit);
+
+    /**
+     * Reads only the given attributes of releases matching the specification.
+     *
+     * No entities are loaded, so unselected columns (such as the description)
+     * are neither read from the database nor kept in memory. Each attribute
+     * is available in the tuple under its own name as alias.
+     *
+     * @param specification filter to apply
+     * @param attributes    entity attributes to select
+     * @param sort          ordering of the result
+     * @param limit         maximum number of rows
+     * @return one tuple per matching release
+     */
+    List<Tuple> findAttributes(Specification<Release> specification, Collection<String> attributes, Sort sort, int limit);
+
+    /**
+     * Full-text search like {@link #search(String, Specification, int)}, reading
+     * only the given attributes.
+     *
+     * @param text          search text
+     * @param specification additional filter to apply
+     * @param attributes    entity attributes to select
+     * @param limit         maximum number of results
+     * @return one tuple per matching release, most relevant first
+     */
+    List<Tuple> searchAttributes(String text, Specification<Release> specification, Collection<String> attributes, int limit);
+}
@@ -0,0 +1,161 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.config.FullTextSearchFunctionContributor;
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+class ReleaseRepositoryCustomImpl implements ReleaseRepositoryCustom {
+
+    /**
+     * Rows fetched per round trip while streaming.
+     * MySQL honours it only with {@code useCursorFetch=true} on the JDBC URL.
+     */
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Release> streamAll(Specification<Release> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Release> query = cb.createQuery(Release.class);
+        Root<Release> root = query.from(Release.class);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(release -> {
+                    entityManager.detach(release);
+                    return release;
+                });
+    }
+
+    @Override
+    public List<Release> findPage(String name, String description, ReleaseStatus status,
+                                  LocalDate fromDate, LocalDate toDate, ReleaseCursor after, int limit) {
+        return ReleaseQueryCatalog.createPageQuery(entityManager, name, description, status, fromDate, toDate, after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Release> search(String text, Specification<Release> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Release> query = cb.createQuery(Release.class);
+        Root<Release> root = query.from(Release.class);
+
+        ParameterExpression<String> searchText = cb.parameter(String.class);
+        Expression<Double> score = score(cb, root, searchText);
+
+        Predicate matches = cb.gt(score, 0);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        query.where(predicate != null ? cb.and(matches, predicate) : matches);
+        query.orderBy(cb.desc(score), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setParameter(searchText, text)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findAttributes(Specification<Release> specification, Collection<String> attributes, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Release> root = query.from(Release.class);
+
+        query.multiselect(selections(root, attributes));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> searchAttributes(String text, Specification<Release> specification, Collection<String> attributes, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Release> root = query.from(Release.class);
+
+        ParameterExpression<String> searchText = cb.parameter(String.class);
+        Expression<Double> score = score(cb, root, searchText);
+
+        query.multiselect(selections(root, attributes));
+        Predicate matches = cb.gt(score, 0);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        query.where(predicate != null ? cb.and(matches, predicate) : matches);
+        query.orderBy(cb.desc(score), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setParameter(searchText, text)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ReleaseIdAndStatus> findStatuses(Specification<Release> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReleaseIdAndStatus> query = cb.createQuery(ReleaseIdAndStatus.class);
+        Root<Release> root = query.from(Release.class);
+
+        query.select(cb.construct(ReleaseIdAndStatus.class, root.get("id"), root.get("status")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static Expression<Double> score(CriteriaBuilder cb, Root<Release> root, ParameterExpression<String> searchText) {
+        return cb.function(
+                FullTextSearchFunctionContributor.FULLTEXT_SCORE,
+                Double.class,
+                root.get("name"),
+                root.get("description"),
+                searchText
+        );
+    }
+
+    private static List<Selection<?>> selections(Root<Release> root, Collection<String> attributes) {
+        return attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList();
+    }
+}
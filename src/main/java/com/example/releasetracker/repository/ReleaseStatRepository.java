@@ -0,0 +1,21 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.ReleaseStat;
+import com.example.releasetracker.domain.entity.ReleaseStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReleaseStatRepository extends JpaRepository<ReleaseStat, ReleaseStatId>, ReleaseStatRepositoryCustom {
+
+    /**
+     * @param dimensions statistics dimensions
+     * @return all counters of the dimensions
+     */
+    @Query("select s from ReleaseStat s where s.id.dimension in :dimensions")
+    List<ReleaseStat> findByDimensions(Collection<String> dimensions);
+}
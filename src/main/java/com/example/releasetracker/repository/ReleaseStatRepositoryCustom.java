@@ -0,0 +1,35 @@
+package com.example.releasetracker.repository;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository fragment for counter updates that must not go through the persistence context.
+ */
+public interface ReleaseStatRepositoryCustom {
+
+    /**
+     * Adds {@code delta} to a counter, creating it when it does not exist yet.
+     *
+     * Runs as plain JDBC in the current transaction: a lost race on creating
+     * the counter row is retried as an update instead of marking the
+     * transaction for rollback.
+     *
+     * @param dimension statistics dimension
+     * @param bucket    bucket within the dimension
+     * @param delta     amount to add, may be negative
+     */
+    void increment(String dimension, String bucket, long delta);
+
+    /**
+     * Locks the counter table as a whole until the end of the transaction,
+     * through a dedicated lock row that is created on first use.
+     *
+     * Writers take it {@link LockModeType#PESSIMISTIC_READ shared} before
+     * applying their deltas and do not block each other; a rebuild takes it
+     * {@link LockModeType#PESSIMISTIC_WRITE exclusively}, which also covers
+     * counter rows that do not exist yet.
+     *
+     * @param mode {@code PESSIMISTIC_READ} or {@code PESSIMISTIC_WRITE}
+     */
+    void lockCounters(LockModeType mode);
+}
@@ -0,0 +1,61 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.ReleaseStat;
+import com.example.releasetracker.domain.entity.ReleaseStatId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ReleaseStatRepositoryCustomImpl implements ReleaseStatRepositoryCustom {
+
+    /**
+     * Key of the lock row. Its dimension is not a statistics dimension, so it
+     * never shows up in the statistics and is left alone by the rebuild.
+     */
+    static final ReleaseStatId LOCK_ID = new ReleaseStatId("lock", "counters");
+
+    private static final String UPDATE =
+            "update release_stats set release_count = release_count + ? where dimension = ? and bucket = ?";
+    private static final String INSERT =
+            "insert into release_stats (dimension, bucket, release_count) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    ReleaseStatRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void increment(String dimension, String bucket, long delta) {
+        if (jdbcTemplate.update(UPDATE, delta, dimension, bucket) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT, dimension, bucket, delta);
+        } catch (DuplicateKeyException e) {
+            // Another transaction created the row in the meantime
+            jdbcTemplate.update(UPDATE, delta, dimension, bucket);
+        }
+    }
+
+    @Override
+    public void lockCounters(LockModeType mode) {
+        // The dialect picks the statement, e.g. "for share" on MySQL for a shared lock
+        if (entityManager.find(ReleaseStat.class, LOCK_ID, mode) != null) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT, LOCK_ID.getDimension(), LOCK_ID.getBucket(), 0);
+        } catch (DuplicateKeyException e) {
+            // Another transaction created the row in the meantime
+        }
+        entityManager.find(ReleaseStat.class, LOCK_ID, mode);
+    }
+}
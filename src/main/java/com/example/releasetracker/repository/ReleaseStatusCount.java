@@ -0,0 +1,12 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+
+/**
+ * Number of releases in one status.
+ *
+ * @param status release status
+ * @param count  number of releases
+ */
+public record ReleaseStatusCount(ReleaseStatus status, Long count) {
+}
@@ -0,0 +1,20 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.ReleaseStatusEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReleaseStatusEventRepository extends JpaRepository<ReleaseStatusEvent, Long> {
+
+    /**
+     * Reads the status history of a release in chronological order,
+     * served by the {@code (release_id, occurred_at)} index.
+     *
+     * @param releaseId release ID
+     * @return status events, oldest first
+     */
+    List<ReleaseStatusEvent> findByReleaseIdOrderByOccurredAtAscIdAsc(Long releaseId);
+}
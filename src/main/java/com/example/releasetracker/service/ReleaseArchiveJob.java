@@ -0,0 +1,24 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.config.ArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically moves long-finished releases to the archive table.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReleaseArchiveJob {
+
+    private final ReleaseArchiveService releaseArchiveService;
+    private final ArchiveProperties properties;
+
+    @Scheduled(cron = "${release-tracker.archive.cron}")
+    public void archive() {
+        if (properties.enabled()) {
+            releaseArchiveService.archive();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.cache.ReleaseResponseCache;
+import com.example.releasetracker.config.ArchiveProperties;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.event.ReleasesArchived;
+import com.example.releasetracker.exception.ReleaseNotFoundException;
+import com.example.releasetracker.mapper.ReleaseMapper;
+import com.example.releasetracker.repository.ArchivedReleaseRepository;
+import com.example.releasetracker.repository.ReleaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves releases that have been Done for a long time from {@code releases}
+ * into {@code releases_archive}, keeping the hot table and its indexes small.
+ *
+ * Releases are moved in batches, each in its own short transaction, with a
+ * pause in between so the job does not compete with API traffic. Statistics
+ * are unaffected: archived releases still count as releases.
+ */
+@Service
+public class ReleaseArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseArchiveService.class);
+
+    private final ReleaseRepository releaseRepository;
+    private final ArchivedReleaseRepository archivedReleaseRepository;
+    private final ReleaseMapper releaseMapper;
+    private final ReleaseResponseCache releaseResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+
+    public ReleaseArchiveService(ReleaseRepository releaseRepository,
+                                 ArchivedReleaseRepository archivedReleaseRepository,
+                                 ReleaseMapper releaseMapper,
+                                 ReleaseResponseCache releaseResponseCache,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ArchiveProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry) {
+        this.releaseRepository = releaseRepository;
+        this.archivedReleaseRepository = archivedReleaseRepository;
+        this.releaseMapper = releaseMapper;
+        this.releaseResponseCache = releaseResponseCache;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archived = Counter.builder("releases.archive.moved")
+                .description("Releases moved to the archive table")
+                .register(registry);
+    }
+
+    /**
+     * Archives releases that have been Done for longer than the configured age,
+     * batch by batch, up to the configured number of batches.
+     *
+     * @return number of archived releases
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.age());
+        log.info("Archiving releases Done since before {}", cutoff);
+
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int moved = archiveBatch(cutoff);
+            total += moved;
+            if (moved < properties.batchSize()) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        log.info("Archived {} releases", total);
+        return total;
+    }
+
+    /**
+     * Moves one batch of qualifying releases to the archive in a single transaction.
+     *
+     * @param cutoff releases last updated before this time qualify
+     * @return number of releases moved
+     */
+    int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = releaseRepository.lockArchivable(cutoff, properties.batchSize());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            archivedReleaseRepository.copyFromReleases(ids, LocalDateTime.now());
+            releaseRepository.deleteArchived(ids);
+            releaseResponseCache.invalidateAfterCommit(ids);
+            eventPublisher.publishEvent(new ReleasesArchived(ids, LocalDateTime.now()));
+            return ids.size();
+        });
+
+        archived.increment(moved);
+        return moved;
+    }
+
+    /**
+     * Retrieves an archived release by its ID.
+     *
+     * @param id release ID
+     * @return archived release as DTO
+     * @throws ReleaseNotFoundException if no archived release exists with given ID
+     */
+    @Transactional(readOnly = true)
+    public ReleaseResponseDTO getArchived(Long id) {
+        return archivedReleaseRepository.findById(id)
+                .map(releaseMapper::toDTO)
+                .orElseThrow(() -> new ReleaseNotFoundException(id));
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
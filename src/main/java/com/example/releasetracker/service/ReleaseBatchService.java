@@ -0,0 +1,389 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.cache.ReleaseResponseCache;
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.BatchItemResultDTO;
+import com.example.releasetracker.dto.BatchResultDTO;
+import com.example.releasetracker.dto.ReleaseBatchUpdateDTO;
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.dto.ReleaseStatusTransitionRequestDTO;
+import com.example.releasetracker.dto.ReleaseStatusTransitionResultDTO;
+import com.example.releasetracker.event.ReleaseChanged;
+import com.example.releasetracker.mapper.ReleaseMapper;
+import com.example.releasetracker.metrics.ReleaseMetrics;
+import com.example.releasetracker.repository.ReleaseIdAndStatus;
+import com.example.releasetracker.repository.ReleaseRepository;
+import com.example.releasetracker.specification.ReleaseSpecification;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for creating, updating and transitioning many releases in one request.
+ *
+ * Each batch runs in a single transaction and is written with JDBC batching
+ * or set-based statements. Items are validated one by one, so an invalid item
+ * is reported in the result instead of failing the whole batch.
+ */
+@Service
+@Timed("releases.batch")
+@RequiredArgsConstructor
+public class ReleaseBatchService {
+
+    /**
+     * Maximum number of items accepted in one batch.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseMapper releaseMapper;
+    private final ReleaseWorkflowService releaseWorkflowService;
+    private final ReleaseResponseCache releaseResponseCache;
+    private final ReleaseStatsService releaseStatsService;
+    private final ReleaseMetrics releaseMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseBatchService.class);
+
+    /**
+     * Creates all valid releases from the request.
+     * If status is not provided, it defaults to {@code CREATED}.
+     *
+     * @param requests releases to create
+     * @return per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or too large
+     */
+    @Transactional
+    public BatchResultDTO createAll(List<ReleaseRequestDTO> requests) {
+        checkBatchSize(requests);
+        log.info("Creating batch of {} releases", requests.size());
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+        Map<Integer, Release> accepted = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ReleaseRequestDTO dto = requests.get(i);
+            String error = validate(dto);
+            if (error != null) {
+                results[i] = rejected(i, HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+
+            try {
+                accepted.put(i, releaseMapper.toEntity(dto));
+            } catch (IllegalArgumentException e) {
+                results[i] = rejected(i, HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
+
+        // IDs come from the pooled allocator, so inserts are deferred and sent as one JDBC batch
+        releaseRepository.saveAll(accepted.values());
+        releaseRepository.flush();
+        accepted.values().forEach(release -> {
+            releaseStatsService.recordCreated(release.getStatus(), release.getReleaseDate());
+            eventPublisher.publishEvent(ReleaseChanged.created(
+                    release.getId(), release.getStatus(), release.getCreatedAt()));
+        });
+
+        accepted.forEach((index, release) ->
+                results[index] = stored(index, HttpStatus.CREATED, release));
+
+        return summarize(results);
+    }
+
+    /**
+     * Updates all valid releases from the request.
+     *
+     * Status transitions are validated through {@link ReleaseWorkflowService}
+     * and, when an item carries a version, it must match the stored one.
+     *
+     * @param requests releases to update
+     * @return per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or too large
+     */
+    @Transactional
+    public BatchResultDTO updateAll(List<ReleaseBatchUpdateDTO> requests) {
+        checkBatchSize(requests);
+        log.info("Updating batch of {} releases", requests.size());
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+
+        List<Long> ids = requests.stream()
+                .filter(dto -> dto != null && dto.getId() != null)
+                .map(ReleaseBatchUpdateDTO::getId)
+                .distinct()
+                .toList();
+        Map<Long, Release> existing = releaseRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Release::getId, Function.identity()));
+
+        // State before this batch, for the statistics; an ID may appear more than once in the batch
+        Map<Long, Release> original = existing.values().stream()
+                .collect(Collectors.toMap(Release::getId, release -> Release.builder()
+                        .status(release.getStatus())
+                        .releaseDate(release.getReleaseDate())
+                        .build()));
+
+        Map<Integer, Release> accepted = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ReleaseBatchUpdateDTO dto = requests.get(i);
+            String error = validate(dto);
+            if (error != null) {
+                results[i] = rejected(i, HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+
+            Release release = existing.get(dto.getId());
+            if (release == null) {
+                results[i] = rejected(i, HttpStatus.NOT_FOUND, "Release with id " + dto.getId() + " not found");
+                continue;
+            }
+
+            if (dto.getVersion() != null && !dto.getVersion().equals(release.getVersion())) {
+                results[i] = rejected(i, HttpStatus.PRECONDITION_FAILED,
+                        "Release with id " + dto.getId() + " has version " + release.getVersion() + ", expected " + dto.getVersion());
+                continue;
+            }
+
+            try {
+                if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
+                    ReleaseStatus target = ReleaseStatus.fromDisplayName(dto.getStatus());
+                    if (target != release.getStatus()) {
+                        releaseWorkflowService.applyTransition(release, target);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                results[i] = rejected(i, HttpStatus.BAD_REQUEST, e.getMessage());
+                continue;
+            }
+
+            release.setName(dto.getName());
+            release.setDescription(dto.getDescription());
+            release.setReleaseDate(dto.getReleaseDate());
+            release.setLastUpdateAt(now);
+            accepted.put(i, release);
+        }
+
+        // Dirty checking turns the changes into one batched UPDATE with version checks
+        releaseRepository.flush();
+
+        List<Long> updatedIds = accepted.values().stream().map(Release::getId).distinct().toList();
+        for (Long id : updatedIds) {
+            Release before = original.get(id);
+            Release after = existing.get(id);
+            releaseStatsService.recordUpdated(before.getStatus(), before.getReleaseDate(),
+                    after.getStatus(), after.getReleaseDate());
+            eventPublisher.publishEvent(ReleaseChanged.updated(id, before.getStatus(), after.getStatus(), now));
+        }
+        releaseResponseCache.invalidateAfterCommit(updatedIds);
+
+        accepted.forEach((index, release) ->
+                results[index] = stored(index, HttpStatus.OK, release));
+
+        return summarize(results);
+    }
+
+    /**
+     * Moves many releases to a new status with set-based UPDATEs.
+     *
+     * Releases are selected by ID or, when no IDs are given, by the filter
+     * fields of the request. Only releases whose current status is a valid
+     * predecessor of the target (per {@link ReleaseStatus}) are moved. For
+     * each predecessor status (at most two) the rows still in that status are
+     * locked and then moved with one UPDATE, so the statistics and the change
+     * events cover exactly the releases this call changed. Releases another
+     * transaction changed in the meantime are reported as modified concurrently.
+     * Entities are never loaded into the persistence context.
+     *
+     * @param request target status and release selection
+     * @return moved IDs and rejected releases with reasons
+     * @throws IllegalArgumentException if the selection is empty, too large or the status is invalid
+     */
+    @Transactional
+    public ReleaseStatusTransitionResultDTO transitionAll(ReleaseStatusTransitionRequestDTO request) {
+        ReleaseStatus target = ReleaseStatus.fromDisplayName(request.getTargetStatus());
+        List<ReleaseStatus> predecessors = target.allowedPrevious();
+
+        List<ReleaseIdAndStatus> selected = selectForTransition(request);
+        log.info("Transitioning {} releases to {}", selected.size(), target);
+
+        List<ReleaseStatusTransitionResultDTO.Rejected> rejected = new ArrayList<>();
+        List<Long> candidates = new ArrayList<>();
+        Map<ReleaseStatus, List<Long>> candidatesByStatus = new LinkedHashMap<>();
+
+        for (ReleaseIdAndStatus release : selected) {
+            if (predecessors.contains(release.status())) {
+                candidates.add(release.id());
+                candidatesByStatus.computeIfAbsent(release.status(), status -> new ArrayList<>()).add(release.id());
+            } else {
+                releaseMetrics.transitionRejected(release.status(), target);
+                rejected.add(rejectedTransition(release.id(), release.status(),
+                        releaseWorkflowService.rejectionReason(release.status(), target)));
+            }
+        }
+
+        if (request.getIds() != null) {
+            Set<Long> found = selected.stream().map(ReleaseIdAndStatus::id).collect(Collectors.toSet());
+            request.getIds().stream()
+                    .filter(id -> id != null && !found.contains(id))
+                    .distinct()
+                    .forEach(id -> rejected.add(rejectedTransition(id, null, "Release with id " + id + " not found")));
+        }
+
+        List<Long> moved = List.of();
+        if (!candidates.isEmpty()) {
+            Map<Long, ReleaseStatus> previous = selected.stream()
+                    .collect(Collectors.toMap(ReleaseIdAndStatus::id, ReleaseIdAndStatus::status));
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> changed = new HashSet<>();
+            for (Map.Entry<ReleaseStatus, List<Long>> group : candidatesByStatus.entrySet()) {
+                // Only rows still in the status read above are locked, so the UPDATE changes exactly these
+                List<Long> locked = releaseRepository.lockInStatus(group.getValue(), group.getKey().name());
+                if (locked.isEmpty()) {
+                    continue;
+                }
+                int count = releaseRepository.transitionStatus(locked, List.of(group.getKey()), target, now);
+                releaseStatsService.recordStatusChange(group.getKey(), target, count);
+                changed.addAll(locked);
+            }
+
+            moved = candidates.stream().filter(changed::contains).toList();
+            if (moved.size() < candidates.size()) {
+                // Changed or deleted by another transaction between the read and the lock
+                List<Long> lost = candidates.stream().filter(id -> !changed.contains(id)).toList();
+                Map<Long, ReleaseStatus> current = releaseRepository
+                        .findStatuses(ReleaseSpecification.idIn(lost), lost.size()).stream()
+                        .collect(Collectors.toMap(ReleaseIdAndStatus::id, ReleaseIdAndStatus::status));
+                lost.forEach(id -> rejected.add(rejectedTransition(id, current.get(id),
+                        "Release was modified concurrently")));
+            }
+
+            moved.forEach(id -> eventPublisher.publishEvent(
+                    ReleaseChanged.statusChanged(id, previous.get(id), target, now)));
+            releaseResponseCache.invalidateAfterCommit(moved);
+        }
+
+        log.info("Transition to {} finished: {} moved, {} rejected", target, moved.size(), rejected.size());
+
+        return ReleaseStatusTransitionResultDTO.builder()
+                .targetStatus(target.getDisplayName())
+                .moved(moved)
+                .rejected(rejected)
+                .build();
+    }
+
+    private List<ReleaseIdAndStatus> selectForTransition(ReleaseStatusTransitionRequestDTO request) {
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            checkBatchSize(request.getIds());
+            return releaseRepository.findStatuses(ReleaseSpecification.idIn(request.getIds()), MAX_BATCH_SIZE);
+        }
+
+        if (isBlank(request.getName()) && isBlank(request.getDescription()) && isBlank(request.getStatus())
+                && request.getFromDate() == null && request.getToDate() == null) {
+            throw new IllegalArgumentException("Either ids or at least one filter must be provided");
+        }
+
+        Specification<Release> specification = ReleaseSpecification.filterBy(
+                request.getName(),
+                request.getDescription(),
+                isBlank(request.getStatus()) ? null : ReleaseStatus.fromDisplayName(request.getStatus()),
+                request.getFromDate(),
+                request.getToDate()
+        );
+
+        List<ReleaseIdAndStatus> selected = releaseRepository.findStatuses(specification, MAX_BATCH_SIZE + 1);
+        if (selected.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Filter matches more than " + MAX_BATCH_SIZE + " releases. Narrow it down or pass ids");
+        }
+        return selected;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private ReleaseStatusTransitionResultDTO.Rejected rejectedTransition(Long id, ReleaseStatus status, String reason) {
+        return ReleaseStatusTransitionResultDTO.Rejected.builder()
+                .id(id)
+                .currentStatus(status != null ? status.getDisplayName() : null)
+                .reason(reason)
+                .build();
+    }
+
+    private void checkBatchSize(List<?> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one release");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch contains " + requests.size() + " releases. Maximum is " + MAX_BATCH_SIZE);
+        }
+    }
+
+    private String validate(Object dto) {
+        if (dto == null) {
+            return "Item must not be null";
+        }
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private BatchItemResultDTO rejected(int index, HttpStatus status, String error) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+
+    private BatchItemResultDTO stored(int index, HttpStatus status, Release release) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .status(status.value())
+                .release(releaseMapper.toDTO(release))
+                .build();
+    }
+
+    private BatchResultDTO summarize(BatchItemResultDTO[] results) {
+        List<BatchItemResultDTO> items = Arrays.asList(results);
+        int succeeded = (int) items.stream().filter(r -> r.getError() == null).count();
+
+        log.info("Batch finished: {} succeeded, {} failed", succeeded, items.size() - succeeded);
+
+        return BatchResultDTO.builder()
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(items)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.config.ChangeSyncProperties;
+import com.example.releasetracker.domain.entity.Release;
+import com.example.releasetracker.dto.ReleaseChangesDTO;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.dto.ReleaseTombstoneDTO;
+import com.example.releasetracker.exception.ChangeTokenExpiredException;
+import com.example.releasetracker.mapper.ReleaseMapper;
+import com.example.releasetracker.repository.ReleaseRepository;
+import com.example.releasetracker.specification.ChangeToken;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental sync of the release list for clients that keep a local copy.
+ *
+ * Every create, update, status change and delete moves a release's
+ * {@code last_update_at}, and deletes leave a tombstone row behind, so a
+ * single range scan over {@code (last_update_at, id)} from the client's token
+ * returns everything that changed.
+ *
+ * {@code last_update_at} is assigned before commit, so a slow transaction can
+ * commit a row older than rows that are already visible. Changes younger than
+ * the safety lag are therefore held back until such transactions have committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReleaseChangesService {
+
+    static final int DEFAULT_LIMIT = 500;
+    static final int MAX_LIMIT = 1000;
+
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseMapper releaseMapper;
+    private final ChangeSyncProperties properties;
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseChangesService.class);
+
+    /**
+     * Returns releases changed or deleted after the given token.
+     *
+     * @param since token from the previous call, or {@code null} for a full sync
+     * @param limit maximum number of changes, or {@code null} for the default
+     * @return changes with the token for the next call
+     * @throws IllegalArgumentException    if the token or limit is invalid
+     * @throws ChangeTokenExpiredException if tombstones the client still needs may already be purged
+     */
+    // Deliberately not read-only: read from a lagging replica, the new token could skip rows
+    @Transactional
+    public ReleaseChangesDTO getChanges(String since, Integer limit) {
+        log.info("Reading changes since={}, limit={}", since, limit);
+
+        ChangeToken from = since != null ? ChangeToken.decode(since) : ChangeToken.INITIAL;
+        int pageSize = resolveLimit(limit);
+
+        LocalDateTime now = LocalDateTime.now();
+        // Compared against the high-water mark, not the position: a full sync pages through rows of any age
+        if (since != null && from.syncedUntil().isBefore(now.minus(properties.tombstoneRetention()))) {
+            throw new ChangeTokenExpiredException();
+        }
+        LocalDateTime until = now.minus(properties.safetyLag()).truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime syncedUntil = since != null ? from.syncedUntil() : until;
+
+        List<Release> rows = releaseRepository.findChangedSince(from.lastUpdateAt(), from.id(), until, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<ReleaseResponseDTO> changed = new ArrayList<>();
+        List<ReleaseTombstoneDTO> deleted = new ArrayList<>();
+        for (Release release : rows) {
+            if (release.getDeletedAt() != null) {
+                deleted.add(new ReleaseTombstoneDTO(release.getId(), release.getDeletedAt()));
+            } else {
+                changed.add(releaseMapper.toDTO(release));
+            }
+        }
+
+        ChangeToken next;
+        if (hasMore) {
+            Release last = rows.getLast();
+            next = new ChangeToken(last.getLastUpdateAt(), last.getId(), syncedUntil);
+        } else {
+            // Everything before the bound has been returned; moving the token up keeps idle clients from expiring
+            next = new ChangeToken(until, 0, until);
+        }
+
+        return ReleaseChangesDTO.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .token(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Physically removes tombstones older than the retention period.
+     *
+     * @return number of tombstones removed
+     */
+    @Transactional
+    public int purgeTombstones() {
+        int purged = releaseRepository.purgeDeletedBefore(LocalDateTime.now().minus(properties.tombstoneRetention()));
+        log.info("Purged {} release tombstones", purged);
+        return purged;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid limit: " + limit + ". Must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
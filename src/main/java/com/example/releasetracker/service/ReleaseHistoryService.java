@@ -0,0 +1,70 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.domain.entity.ReleaseStatusEvent;
+import com.example.releasetracker.dto.ReleaseHistoryDTO;
+import com.example.releasetracker.dto.ReleaseStatusEventDTO;
+import com.example.releasetracker.exception.ReleaseNotFoundException;
+import com.example.releasetracker.repository.ReleaseRepository;
+import com.example.releasetracker.repository.ReleaseStatusEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read side of the release status history.
+ *
+ * Events are written asynchronously, so a change may take a moment to appear.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReleaseHistoryService {
+
+    private final ReleaseStatusEventRepository releaseStatusEventRepository;
+    private final ReleaseRepository releaseRepository;
+
+    /**
+     * Returns the status history of a release together with the time spent in each status.
+     *
+     * History of deleted releases is kept and still returned.
+     *
+     * @param id release ID
+     * @return status events and dwell time per status
+     * @throws ReleaseNotFoundException if the release has no history and does not exist
+     */
+    @Transactional(readOnly = true)
+    public ReleaseHistoryDTO getHistory(Long id) {
+        List<ReleaseStatusEvent> events = releaseStatusEventRepository.findByReleaseIdOrderByOccurredAtAscIdAsc(id);
+        if (events.isEmpty() && !releaseRepository.existsById(id)) {
+            throw new ReleaseNotFoundException(id);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> dwellSeconds = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            ReleaseStatusEvent event = events.get(i);
+            LocalDateTime left = i + 1 < events.size() ? events.get(i + 1).getOccurredAt() : now;
+            dwellSeconds.merge(event.getToStatus().getDisplayName(),
+                    Duration.between(event.getOccurredAt(), left).toSeconds(), Long::sum);
+        }
+
+        return ReleaseHistoryDTO.builder()
+                .releaseId(id)
+                .events(events.stream().map(this::toDTO).toList())
+                .dwellSeconds(dwellSeconds)
+                .build();
+    }
+
+    private ReleaseStatusEventDTO toDTO(ReleaseStatusEvent event) {
+        return ReleaseStatusEventDTO.builder()
+                .fromStatus(event.getFromStatus() != null ? event.getFromStatus().getDisplayName() : null)
+                .toStatus(event.getToStatus().getDisplayName())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.concurrency.SingleFlight;
+import com.example.releasetracker.config.CoalescingProperties;
+import com.example.releasetracker.datasource.PrimaryPin;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.ReleasePageDTO;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.event.ReleaseChanged;
+import com.example.releasetracker.event.ReleasesArchived;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Lets identical concurrent list requests share one {@link ReleaseService#filter} call.
+ *
+ * Dashboards that refresh on the same schedule send the same query within
+ * milliseconds; instead of each running its own transaction and query, the
+ * first request runs it and the others wait for its mapped page. Requests are
+ * identical when their normalized criteria match, see {@link ListQuery}.
+ *
+ * Sits in front of the transactional service, so waiting requests hold no
+ * connection. Every committed change, and every archived batch, drops shared
+ * results, so a client never joins a query that started before its own write
+ * was committed.
+ */
+@Component
+public class ReleaseListCoalescer {
+
+    private final ReleaseService releaseService;
+    private final boolean enabled;
+    private final SingleFlight<ListQuery, ReleasePageDTO<ReleaseResponseDTO>> flights;
+
+    public ReleaseListCoalescer(ReleaseService releaseService, CoalescingProperties properties, MeterRegistry registry) {
+        this.releaseService = releaseService;
+        this.enabled = properties.enabled();
+        this.flights = new SingleFlight<>(properties.ttl());
+
+        register(registry, "executed", SingleFlight::getExecuted);
+        register(registry, "joined", SingleFlight::getJoined);
+        register(registry, "reused", SingleFlight::getReused);
+    }
+
+    private void register(MeterRegistry registry, String outcome,
+                          ToDoubleFunction<SingleFlight<ListQuery, ReleasePageDTO<ReleaseResponseDTO>>> count) {
+        FunctionCounter.builder("releases.filter.coalescing", flights, count)
+                .description("List calls by whether they ran their own query or shared the result of an identical call")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Same as {@link ReleaseService#filter}, sharing the result with identical concurrent calls.
+     * The returned page may be shared and must not be modified.
+     */
+    public ReleasePageDTO<ReleaseResponseDTO> filter(
+            String name,
+            String description,
+            ReleaseStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String q,
+            String cursor,
+            Integer limit,
+            boolean includeArchived) {
+
+        // Pinned requests must read their own writes from the primary, not a shared replica result
+        if (!enabled || PrimaryPin.isPinned()) {
+            return releaseService.filter(name, description, status, fromDate, toDate, q, cursor, limit, includeArchived);
+        }
+
+        ListQuery key = ListQuery.of(name, description, status, fromDate, toDate, q, cursor, limit, includeArchived);
+        return flights.execute(key, () ->
+                releaseService.filter(name, description, status, fromDate, toDate, q, cursor, limit, includeArchived));
+    }
+
+    @TransactionalEventListener
+    public void onReleaseChanged(ReleaseChanged event) {
+        flights.invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onReleasesArchived(ReleasesArchived event) {
+        flights.invalidate();
+    }
+
+    /**
+     * List criteria normalized the way {@link ReleaseService#filter} interprets them:
+     * blank values are absent, substring filters are case-insensitive, the search
+     * text is trimmed and a missing limit is the default page size.
+     */
+    record ListQuery(
+            String name,
+            String description,
+            ReleaseStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String q,
+            String cursor,
+            int limit,
+            boolean includeArchived) {
+
+        static ListQuery of(String name, String description, ReleaseStatus status, LocalDate fromDate,
+                            LocalDate toDate, String q, String cursor, Integer limit, boolean includeArchived) {
+            return new ListQuery(
+                    isBlank(name) ? null : name.toLowerCase(),
+                    isBlank(description) ? null : description.toLowerCase(),
+                    status,
+                    fromDate,
+                    toDate,
+                    isBlank(q) ? null : q.trim(),
+                    isBlank(cursor) ? null : cursor,
+                    limit != null ? limit : ReleaseService.DEFAULT_PAGE_SIZE,
+                    includeArchived);
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
@@ -1,21 +1,46 @@
 package com.example.releasetracker.service;
 
+import com.example.releasetracker.cache.ReleaseResponseCache;
+import com.example.releasetracker.domain.entity.ArchivedRelease;
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.event.ReleaseChanged;
+import com.example.releasetracker.dto.ReleasePageDTO;
 import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.exception.PreconditionFailedException;
 import com.example.releasetracker.exception.ReleaseNotFoundException;
 import com.example.releasetracker.mapper.ReleaseMapper;
+import com.example.releasetracker.metrics.ReleaseMetrics;
+import com.example.releasetracker.metrics.RequestTimings;
+import com.example.releasetracker.metrics.RequestTimings.Phase;
+import com.example.releasetracker.specification.ReleaseCursor;
+import com.example.releasetracker.specification.ReleaseField;
 import com.example.releasetracker.specification.ReleaseSpecification;
 import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.repository.ArchivedReleaseRepository;
 import com.example.releasetracker.repository.ReleaseRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service layer responsible for managing {@link Release} entities.
@@ -24,18 +49,45 @@ import java.util.List;
  * to {@link ReleaseWorkflowService}.
  */
 @Service
+@Timed("releases.service")
 @RequiredArgsConstructor
 public class ReleaseService {
 
+    /**
+     * Page size used when the client does not request one.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Upper bound for a single page, regardless of what the client requests.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Keyset order of {@link ReleaseSpecification#KEYSET_ORDER} applied to DTOs, NULL dates first.
+     */
+    private static final Comparator<ReleaseResponseDTO> KEYSET_COMPARATOR = Comparator
+            .comparing(ReleaseResponseDTO::getReleaseDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ReleaseResponseDTO::getId);
+
     private final ReleaseRepository releaseRepository;
+    private final ArchivedReleaseRepository archivedReleaseRepository;
     private final ReleaseMapper releaseMapper;
     private final ReleaseWorkflowService releaseWorkflowService;
+    private final ReleaseResponseCache releaseResponseCache;
+    private final ReleaseMetrics releaseMetrics;
+    private final ReleaseStatsService releaseStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Logger log = LoggerFactory.getLogger(ReleaseService.class);
 
     /**
      * Retrieves a single release by its ID.
      *
+     * Not run in a read-only transaction, so it always reads from the primary:
+     * the result fills the response cache, which must never receive a version
+     * older than the one its last invalidation was for.
+     *
      * @param id release ID
      * @return ReleaseResponseDTO representing the release
      * @throws ReleaseNotFoundException if no release exists with given ID
@@ -51,6 +103,18 @@ public class ReleaseService {
         return releaseMapper.toDTO(release);
     }
 
+    /**
+     * Returns the current version of a release without loading it.
+     *
+     * @param id release ID
+     * @return current version
+     * @throws ReleaseNotFoundException if no release exists with given ID
+     */
+    public Long getVersion(Long id) {
+        return releaseRepository.findVersionById(id)
+                .orElseThrow(() -> new ReleaseNotFoundException(id));
+    }
+
     /**
      * Creates a new release.
      * If status is not provided, it defaults to {@code CREATED}.
@@ -58,11 +122,14 @@ public class ReleaseService {
      * @param dto request data
      * @return created release as DTO
      */
+    @Transactional
     public ReleaseResponseDTO create(ReleaseRequestDTO dto) {
         log.info("Creating new release with name={}", dto.getName());
 
         Release entity = releaseMapper.toEntity(dto);
         Release saved = releaseRepository.save(entity);
+        releaseStatsService.recordCreated(saved.getStatus(), saved.getReleaseDate());
+        eventPublisher.publishEvent(ReleaseChanged.created(saved.getId(), saved.getStatus(), saved.getCreatedAt()));
 
         log.info("Release created successfully with id={}", saved.getId());
 
@@ -75,13 +142,19 @@ public class ReleaseService {
      * Status transition is validated through {@link ReleaseWorkflowService}.
      * Status update is optional; if not provided, existing status remains unchanged.
      *
-     * @param id  ID of release to update
-     * @param dto updated data
+     * The write is guarded by the entity version, so a concurrent update
+     * between read and write fails instead of being silently overwritten.
+     *
+     * @param id              ID of release to update
+     * @param dto             updated data
+     * @param expectedVersion version the client based its change on, or {@code null} to skip the check
      * @return updated release as DTO
-     * @throws ReleaseNotFoundException if release does not exist
-     * @throws IllegalArgumentException if invalid status transition is attempted
+     * @throws ReleaseNotFoundException    if release does not exist
+     * @throws PreconditionFailedException if the release is not at the expected version
+     * @throws IllegalArgumentException    if invalid status transition is attempted
      */
-    public ReleaseResponseDTO update(Long id, ReleaseRequestDTO dto) {
+    @Transactional
+    public ReleaseResponseDTO update(Long id, ReleaseRequestDTO dto, Long expectedVersion) {
         log.info("Updating release with id={}", id);
 
         Release existing = releaseRepository.findById(id)
@@ -90,77 +163,431 @@ public class ReleaseService {
                     return new ReleaseNotFoundException(id);
                 });
 
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            log.warn("Rejected update of release id={}: expected version {}, current {}", id, expectedVersion, existing.getVersion());
+            throw new PreconditionFailedException(id, expectedVersion, existing.getVersion());
+        }
+
+        ReleaseStatus oldStatus = existing.getStatus();
+        LocalDate oldReleaseDate = existing.getReleaseDate();
+
         ReleaseStatus newStatus = null;
         if (dto.getStatus() != null && !dto.getStatus().isBlank()) {
             newStatus = ReleaseStatus.fromDisplayName(dto.getStatus());
             log.info("Requested status transition for release id={} to {}", id, newStatus);
         }
 
-        if (newStatus != null) {
+        // Repeating the current status is a plain edit, not a transition
+        if (newStatus != null && newStatus != oldStatus) {
             releaseWorkflowService.applyTransition(existing, newStatus);
         }
 
         existing.setName(dto.getName());
         existing.setDescription(dto.getDescription());
         existing.setReleaseDate(dto.getReleaseDate());
+        // Every edit moves the row forward in the change feed, not only status changes
+        existing.setLastUpdateAt(LocalDateTime.now());
 
-        Release updated = releaseRepository.save(existing);
+        // Flush so the returned DTO carries the incremented version
+        Release updated = releaseRepository.saveAndFlush(existing);
+        releaseStatsService.recordUpdated(oldStatus, oldReleaseDate, updated.getStatus(), updated.getReleaseDate());
+        eventPublisher.publishEvent(ReleaseChanged.updated(id, oldStatus, updated.getStatus(), LocalDateTime.now()));
+        releaseResponseCache.invalidateAfterCommit(List.of(id));
 
         log.info("Release with id={} updated successfully", id);
 
         return releaseMapper.toDTO(updated);
     }
 
+    /**
+     * Moves a release to a new status with a single conditional UPDATE.
+     *
+     * The workflow rules of {@link ReleaseStatus} are enforced by the database:
+     * the row is only changed if its current status is one of the allowed
+     * predecessors of the target, so validation and write cannot race.
+     *
+     * The statistics and the history need the status the release left. When
+     * the target has a single predecessor that is implied by the UPDATE;
+     * otherwise the row's status is read under a lock first, which also lets a
+     * disallowed transition be rejected without writing.
+     *
+     * @param id     release ID
+     * @param target new status
+     * @throws ReleaseNotFoundException if release does not exist
+     * @throws IllegalArgumentException if the transition is not allowed
+     */
+    @Transactional
+    public void changeStatus(Long id, ReleaseStatus target) {
+        log.info("Changing status of release id={} to {}", id, target);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReleaseStatus> predecessors = target.allowedPrevious();
+        ReleaseStatus current = predecessors.size() == 1 ? predecessors.getFirst() : lockStatus(id);
+
+        if (!predecessors.contains(current)
+                || releaseRepository.transitionStatus(List.of(id), predecessors, target, now) == 0) {
+            if (predecessors.size() == 1) {
+                // Only this path reads the row, to tell a missing release from a disallowed transition
+                current = releaseRepository.findStatusById(id).orElseThrow(() -> notFound(id));
+            }
+            releaseMetrics.transitionRejected(current, target);
+            throw new IllegalArgumentException(releaseWorkflowService.rejectionReason(current, target));
+        }
+
+        releaseStatsService.recordStatusChange(current, target, 1);
+        eventPublisher.publishEvent(ReleaseChanged.statusChanged(id, current, target, now));
+        releaseResponseCache.invalidateAfterCommit(List.of(id));
+        log.info("Status of release id={} changed to {}", id, target);
+    }
+
+    private ReleaseStatus lockStatus(Long id) {
+        return releaseRepository.lockStatusById(id)
+                .map(ReleaseStatus::valueOf)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private ReleaseNotFoundException notFound(Long id) {
+        log.warn("Attempted status change but release with id={} not found", id);
+        return new ReleaseNotFoundException(id);
+    }
+
     /**
      * Deletes a release by its ID.
      *
+     * The row is marked as deleted with a single conditional UPDATE, so a
+     * missing or already deleted release costs one statement. The row stays
+     * behind as a tombstone for change sync clients, with the status and
+     * release date it had; these are read back from it for the statistics and
+     * the change event, since MySQL cannot return them from the UPDATE.
+     *
      * @param id release ID
+     * @throws ReleaseNotFoundException if release does not exist
      */
+    @Transactional
     public void delete(Long id) {
         log.info("Deleting release with id={}", id);
 
-        if (!releaseRepository.existsById(id)) {
+        LocalDateTime now = LocalDateTime.now();
+        if (releaseRepository.softDeleteById(id, now) == 0) {
             log.warn("Attempted delete but release with id={} not found", id);
             throw new ReleaseNotFoundException(id);
         }
 
-        releaseRepository.deleteById(id);
-        log.info("Release with id={} deleted successfully", id);
+        // Our UPDATE holds the row lock, so the tombstone still has the state that was deleted
+        Release deleted = releaseRepository.findIncludingDeleted(id).orElseThrow();
+        releaseStatsService.recordDeleted(deleted.getStatus(), deleted.getReleaseDate());
+        eventPublisher.publishEvent(ReleaseChanged.deleted(id, deleted.getStatus(), now));
 
+        releaseResponseCache.invalidateAfterCommit(List.of(id));
+        log.info("Release with id={} deleted successfully", id);
     }
 
     /**
-     * Filters releases using optional search criteria.
+     * Filters releases using optional search criteria, one page at a time.
+     *
+     * Pages are ordered by release date and ID and addressed with an opaque
+     * keyset cursor, so each page costs the same regardless of depth. The page
+     * query is prepared once per combination of present filters and only has
+     * its parameters bound.
+     *
+     * When a search text is given the request switches to search mode:
+     * releases are matched against name and description through the full-text
+     * index and ordered by relevance. Search mode returns only the top
+     * {@code limit} matches and does not support cursors.
+     *
+     * Runs in a read-only transaction, so Hibernate keeps no snapshots of the
+     * loaded entities and skips dirty checking.
      *
      * @param name        partial match on release name
      * @param description partial match on description
      * @param status      exact match on release status
      * @param fromDate    filter releases from this date (inclusive)
      * @param toDate      filter releases up to this date (inclusive)
-     * @return list of matching releases
+     * @param q           full-text search over name and description, or {@code null}
+     * @param cursor          cursor returned with the previous page, or {@code null} for the first page
+     * @param limit           requested page size, or {@code null} for the default
+     * @param includeArchived whether archived releases are merged into the pages
+     * @return page of matching releases
+     * @throws IllegalArgumentException if the cursor or limit is invalid, or the archive is combined with search
      */
-    public List<ReleaseResponseDTO> filter(
+    @Transactional(readOnly = true)
+    public ReleasePageDTO<ReleaseResponseDTO> filter(
             String name,
             String description,
             ReleaseStatus status,
             LocalDate fromDate,
-            LocalDate toDate) {
+            LocalDate toDate,
+            String q,
+            String cursor,
+            Integer limit,
+            boolean includeArchived) {
 
-        log.info("Filtering releases with criteria: name={}, description={}, status={}, fromDate={}, toDate={}", name, description, status, fromDate, toDate);
+        log.info("Filtering releases with criteria: name={}, description={}, status={}, fromDate={}, toDate={}, q={}, cursor={}, limit={}, includeArchived={}", name, description, status, fromDate, toDate, q, cursor, limit, includeArchived);
 
+        int pageSize = resolvePageSize(limit);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        int shape = ReleaseSpecification.shapeOf(name, description, status, fromDate, toDate);
+
+        long phase = RequestTimings.start();
         Specification<Release> specification =
                 ReleaseSpecification.filterBy(name, description, status, fromDate, toDate);
 
-        List<ReleaseResponseDTO> results = releaseRepository.findAll(specification)
-                .stream()
+        if (q != null && !q.isBlank()) {
+            if (hasCursor) {
+                throw new IllegalArgumentException("Cursor is not supported together with q");
+            }
+            if (includeArchived) {
+                throw new IllegalArgumentException("includeArchived is not supported together with q");
+            }
+            RequestTimings.stop(Phase.SPEC, phase);
+
+            phase = RequestTimings.start();
+            long started = System.nanoTime();
+            List<Release> matches = releaseRepository.search(q.trim(), specification, pageSize);
+            releaseMetrics.recordFilterShape(shape, "search", System.nanoTime() - started);
+            RequestTimings.stop(Phase.QUERY, phase);
+
+            phase = RequestTimings.start();
+            List<ReleaseResponseDTO> results = matches.stream()
+                    .map(releaseMapper::toDTO)
+                    .toList();
+            RequestTimings.stop(Phase.MAP, phase);
+
+            log.info("Search returned {} results", results.size());
+            releaseMetrics.recordFilterResults(results.size(), true);
+
+            return ReleasePageDTO.<ReleaseResponseDTO>builder()
+                    .items(results)
+                    .limit(pageSize)
+                    .build();
+        }
+
+        ReleaseCursor after = hasCursor ? ReleaseCursor.decode(cursor) : null;
+        RequestTimings.stop(Phase.SPEC, phase);
+
+        // Fetch one extra row to find out whether another page exists without a COUNT query
+        phase = RequestTimings.start();
+        long started = System.nanoTime();
+        List<Release> rows = releaseRepository.findPage(name, description, status, fromDate, toDate, after, pageSize + 1);
+        releaseMetrics.recordFilterShape(shape, "list", System.nanoTime() - started);
+        RequestTimings.stop(Phase.QUERY, phase);
+
+        if (includeArchived) {
+            return mergeArchived(specification.and(ReleaseSpecification.after(after)), rows, pageSize);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Release> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        phase = RequestTimings.start();
+        List<ReleaseResponseDTO> results = page.stream()
                 .map(releaseMapper::toDTO)
                 .toList();
+        RequestTimings.stop(Phase.MAP, phase);
 
-        log.info("Filter returned {} results", results.size());
+        log.info("Filter returned {} results, hasMore={}", results.size(), hasMore);
+        releaseMetrics.recordFilterResults(results.size(), false);
 
-        return results;
+        return ReleasePageDTO.<ReleaseResponseDTO>builder()
+                .items(results)
+                .nextCursor(hasMore ? ReleaseCursor.after(page.get(page.size() - 1)).encode() : null)
+                .limit(pageSize)
+                .build();
     }
-}
 
+    /**
+     * Completes a {@link #filter} page with archived releases.
+     *
+     * The archive is read with the same keyset specification and limit as the
+     * hot table, so both row lists start after the same cursor; the merged
+     * page is the first {@code pageSize} of their union in keyset order.
+     */
+    private ReleasePageDTO<ReleaseResponseDTO> mergeArchived(
+            Specification<Release> keyset, List<Release> rows, int pageSize) {
+
+        long phase = RequestTimings.start();
+        List<ArchivedRelease> archivedRows = archivedReleaseRepository.findBy(
+                ReleaseSpecification.forArchive(keyset),
+                query -> query
+                        .sortBy(ReleaseSpecification.KEYSET_ORDER)
+                        .limit(pageSize + 1)
+                        .all());
+        RequestTimings.stop(Phase.QUERY, phase);
+
+        phase = RequestTimings.start();
+        List<ReleaseResponseDTO> results = new ArrayList<>(rows.size() + archivedRows.size());
+        rows.forEach(release -> results.add(releaseMapper.toDTO(release)));
+        archivedRows.forEach(release -> results.add(releaseMapper.toDTO(release)));
+        results.sort(KEYSET_COMPARATOR);
+        RequestTimings.stop(Phase.MAP, phase);
+
+        boolean hasMore = results.size() > pageSize;
+        List<ReleaseResponseDTO> page = hasMore ? results.subList(0, pageSize) : results;
+
+        log.info("Filter returned {} results ({} archived fetched), hasMore={}", page.size(), archivedRows.size(), hasMore);
+        releaseMetrics.recordFilterResults(page.size(), false);
+
+        String nextCursor = null;
+        if (hasMore) {
+            ReleaseResponseDTO last = page.get(page.size() - 1);
+            nextCursor = new ReleaseCursor(last.getReleaseDate(), last.getId()).encode();
+        }
+
+        return ReleasePageDTO.<ReleaseResponseDTO>builder()
+                .items(List.copyOf(page))
+                .nextCursor(nextCursor)
+                .limit(pageSize)
+                .build();
+    }
+
+    /**
+     * Filters releases like {@link #filter}, returning only the requested fields.
+     *
+     * Only the selected columns are read, straight into tuples, so no entities
+     * are hydrated and unrequested columns such as the description are never
+     * transferred. The ID and release date are always read because the cursor
+     * needs them; the ID is always returned.
+     *
+     * @param name        partial match on release name
+     * @param description partial match on description
+     * @param status      exact match on release status
+     * @param fromDate    filter releases from this date (inclusive)
+     * @param toDate      filter releases up to this date (inclusive)
+     * @param q           full-text search over name and description, or {@code null}
+     * @param cursor      cursor returned with the previous page, or {@code null} for the first page
+     * @param limit       requested page size, or {@code null} for the default
+     * @param fields      comma separated field names, e.g. {@code id,name,status}
+     * @return page of matching releases with only the requested fields
+     * @throws IllegalArgumentException if the cursor, limit or a field name is invalid
+     */
+    @Transactional(readOnly = true)
+    public ReleasePageDTO<Map<String, Object>> filterFields(
+            String name,
+            String description,
+            ReleaseStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String q,
+            String cursor,
+            Integer limit,
+            String fields) {
+
+        log.info("Filtering release fields with criteria: name={}, description={}, status={}, fromDate={}, toDate={}, q={}, cursor={}, limit={}, fields={}", name, description, status, fromDate, toDate, q, cursor, limit, fields);
+
+        Set<ReleaseField> requested = ReleaseField.parse(fields);
+        int pageSize = resolvePageSize(limit);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        boolean search = q != null && !q.isBlank();
+        if (search && hasCursor) {
+            throw new IllegalArgumentException("Cursor is not supported together with q");
+        }
+
+        Set<String> attributes = new LinkedHashSet<>();
+        requested.forEach(field -> attributes.add(field.getAttribute()));
+        attributes.add(ReleaseField.RELEASE_DATE.getAttribute());
+
+        long phase = RequestTimings.start();
+        Specification<Release> specification =
+                ReleaseSpecification.filterBy(name, description, status, fromDate, toDate);
+        if (!search) {
+            specification = specification.and(ReleaseSpecification.after(hasCursor ? ReleaseCursor.decode(cursor) : null));
+        }
+        RequestTimings.stop(Phase.SPEC, phase);
+
+        // Fetch one extra row to find out whether another page exists without a COUNT query
+        phase = RequestTimings.start();
+        long started = System.nanoTime();
+        List<Tuple> rows = search
+                ? releaseRepository.searchAttributes(q.trim(), specification, attributes, pageSize)
+                : releaseRepository.findAttributes(specification, attributes, ReleaseSpecification.KEYSET_ORDER, pageSize + 1);
+        releaseMetrics.recordFilterShape(
+                ReleaseSpecification.shapeOf(name, description, status, fromDate, toDate),
+                search ? "search" : "fields",
+                System.nanoTime() - started);
+        RequestTimings.stop(Phase.QUERY, phase);
+
+        boolean hasMore = !search && rows.size() > pageSize;
+        List<Tuple> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        phase = RequestTimings.start();
+        List<Map<String, Object>> results = new ArrayList<>(page.size());
+        for (Tuple row : page) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (ReleaseField field : requested) {
+                item.put(field.getFieldName(), field.toApiValue(row.get(field.getAttribute())));
+            }
+            results.add(item);
+        }
+        RequestTimings.stop(Phase.MAP, phase);
+
+        log.info("Field filter returned {} results, hasMore={}", results.size(), hasMore);
+        releaseMetrics.recordFilterResults(results.size(), search);
+
+        String nextCursor = null;
+        if (hasMore) {
+            Tuple last = page.get(page.size() - 1);
+            nextCursor = new ReleaseCursor(
+                    last.get(ReleaseField.RELEASE_DATE.getAttribute(), LocalDate.class),
+                    last.get(ReleaseField.ID.getAttribute(), Long.class)
+            ).encode();
+        }
+
+        return ReleasePageDTO.<Map<String, Object>>builder()
+                .items(results)
+                .nextCursor(nextCursor)
+                .limit(pageSize)
+                .build();
+    }
 
+    /**
+     * Streams every release matching the criteria to the given sink.
+     *
+     * Rows are read through a forward-only database cursor and handed over
+     * one by one, so memory use stays constant regardless of result size.
+     *
+     * @param name        partial match on release name
+     * @param description partial match on description
+     * @param status      exact match on release status
+     * @param fromDate    filter releases from this date (inclusive)
+     * @param toDate      filter releases up to this date (inclusive)
+     * @param sink        receives each release as it is read
+     * @return number of exported releases
+     */
+    @Transactional(readOnly = true)
+    public long export(
+            String name,
+            String description,
+            ReleaseStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Consumer<ReleaseResponseDTO> sink) {
 
+        log.info("Exporting releases with criteria: name={}, description={}, status={}, fromDate={}, toDate={}", name, description, status, fromDate, toDate);
+
+        Specification<Release> specification =
+                ReleaseSpecification.filterBy(name, description, status, fromDate, toDate);
+
+        long exported = 0;
+        try (Stream<Release> releases = releaseRepository.streamAll(specification)) {
+            Iterator<Release> iterator = releases.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(releaseMapper.toDTO(iterator.next()));
+                exported++;
+            }
+        }
+
+        log.info("Export finished with {} releases", exported);
+
+        return exported;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid limit: " + limit + ". Must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
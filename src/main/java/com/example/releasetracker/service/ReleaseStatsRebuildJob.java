@@ -0,0 +1,20 @@
+package com.example.releasetracker.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reconciles the release statistics with the {@code releases} table.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReleaseStatsRebuildJob {
+
+    private final ReleaseStatsService releaseStatsService;
+
+    @Scheduled(cron = "${release-tracker.stats.rebuild-cron}")
+    public void rebuild() {
+        releaseStatsService.rebuild();
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.domain.entity.ReleaseStat;
+import com.example.releasetracker.domain.entity.ReleaseStatId;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.ReleaseStatsDTO;
+import com.example.releasetracker.repository.ArchivedReleaseRepository;
+import com.example.releasetracker.repository.ReleaseMonthCount;
+import com.example.releasetracker.repository.ReleaseRepository;
+import com.example.releasetracker.repository.ReleaseStatRepository;
+import com.example.releasetracker.repository.ReleaseStatusCount;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains release counters per status and per release month in the {@code release_stats} table.
+ *
+ * Writers report their changes while their transaction runs; the resulting
+ * deltas are summed per counter and applied right before commit, in a fixed
+ * order, so counter rows are locked as briefly as possible and concurrent
+ * writers cannot deadlock on them. Reading the statistics touches only the
+ * counter rows, never the {@code releases} table.
+ *
+ * Writers hold a shared lock on the whole counter table while applying their
+ * deltas; a rebuild holds it exclusively, so it neither overwrites a delta
+ * nor races a writer that creates a new bucket.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReleaseStatsService {
+
+    static final String STATUS = "status";
+    static final String MONTH = "month";
+
+    /**
+     * Month bucket for releases without a release date.
+     */
+    static final String NO_DATE = "none";
+
+    private final ReleaseStatRepository releaseStatRepository;
+    private final ReleaseRepository releaseRepository;
+    private final ArchivedReleaseRepository archivedReleaseRepository;
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseStatsService.class);
+
+    /**
+     * Records a new release.
+     *
+     * @param status      status of the release
+     * @param releaseDate release date, may be {@code null}
+     */
+    public void recordCreated(ReleaseStatus status, LocalDate releaseDate) {
+        PendingDeltas deltas = pendingDeltas();
+        deltas.add(STATUS, status.name(), 1);
+        deltas.add(MONTH, month(releaseDate), 1);
+    }
+
+    /**
+     * Records a deleted release.
+     *
+     * @param status      status the release had
+     * @param releaseDate release date the release had, may be {@code null}
+     */
+    public void recordDeleted(ReleaseStatus status, LocalDate releaseDate) {
+        PendingDeltas deltas = pendingDeltas();
+        deltas.add(STATUS, status.name(), -1);
+        deltas.add(MONTH, month(releaseDate), -1);
+    }
+
+    /**
+     * Records a change of status and/or release date of one release.
+     * Nothing is recorded for values that did not change.
+     *
+     * @param oldStatus status before the change
+     * @param oldDate   release date before the change
+     * @param newStatus status after the change
+     * @param newDate   release date after the change
+     */
+    public void recordUpdated(ReleaseStatus oldStatus, LocalDate oldDate, ReleaseStatus newStatus, LocalDate newDate) {
+        if (oldStatus != newStatus) {
+            recordStatusChange(oldStatus, newStatus, 1);
+        }
+
+        String oldMonth = month(oldDate);
+        String newMonth = month(newDate);
+        if (!oldMonth.equals(newMonth)) {
+            PendingDeltas deltas = pendingDeltas();
+            deltas.add(MONTH, oldMonth, -1);
+            deltas.add(MONTH, newMonth, 1);
+        }
+    }
+
+    /**
+     * Records releases that moved from one status to another.
+     *
+     * @param from  previous status
+     * @param to    new status
+     * @param count number of releases that moved
+     */
+    public void recordStatusChange(ReleaseStatus from, ReleaseStatus to, long count) {
+        if (count == 0) {
+            return;
+        }
+        PendingDeltas deltas = pendingDeltas();
+        deltas.add(STATUS, from.name(), -count);
+        deltas.add(STATUS, to.name(), count);
+    }
+
+    /**
+     * Returns release counts per status and per release month.
+     *
+     * @return current statistics
+     */
+    @Transactional(readOnly = true)
+    public ReleaseStatsDTO getStats() {
+        Map<ReleaseStatId, Long> counts = releaseStatRepository.findAll().stream()
+                .collect(Collectors.toMap(ReleaseStat::getId, ReleaseStat::getReleaseCount));
+        return toDTO(counts);
+    }
+
+    /**
+     * Recounts all counters from the {@code releases} and {@code releases_archive} tables
+     * and corrects those that drifted.
+     *
+     * The counter table is locked before anything is counted and stays locked
+     * until the end of the transaction. Writers that have not committed yet
+     * apply their deltas afterwards, on top of counts that do not include them;
+     * writers that already hold the lock are waited for, so their releases are
+     * counted.
+     *
+     * @return statistics after the rebuild
+     */
+    @Transactional
+    public ReleaseStatsDTO rebuild() {
+        log.info("Rebuilding release statistics");
+
+        // Must come first: the counts below have to see every writer that got the lock before
+        releaseStatRepository.lockCounters(LockModeType.PESSIMISTIC_WRITE);
+        Map<ReleaseStatId, ReleaseStat> current = releaseStatRepository.findByDimensions(List.of(STATUS, MONTH)).stream()
+                .collect(Collectors.toMap(ReleaseStat::getId, Function.identity()));
+
+        // Archived releases still count, so both tables are recounted
+        Map<ReleaseStatId, Long> expected = new HashMap<>();
+        addStatusCounts(expected, releaseRepository.countByStatus());
+        addStatusCounts(expected, archivedReleaseRepository.countByStatus());
+        addMonthCounts(expected, releaseRepository.countByReleaseMonth());
+        addMonthCounts(expected, archivedReleaseRepository.countByReleaseMonth());
+
+        int corrected = 0;
+        for (Map.Entry<ReleaseStatId, Long> entry : expected.entrySet()) {
+            ReleaseStat stat = current.remove(entry.getKey());
+            if (stat == null) {
+                releaseStatRepository.save(new ReleaseStat(entry.getKey(), entry.getValue()));
+                corrected++;
+            } else if (stat.getReleaseCount() != entry.getValue()) {
+                stat.setReleaseCount(entry.getValue());
+                corrected++;
+            }
+        }
+
+        // Buckets that no longer have any releases
+        for (ReleaseStat stale : current.values()) {
+            if (stale.getReleaseCount() != 0) {
+                corrected++;
+            }
+        }
+        releaseStatRepository.deleteAll(current.values());
+
+        if (corrected > 0) {
+            log.warn("Release statistics rebuilt, corrected {} counters", corrected);
+        } else {
+            log.info("Release statistics rebuilt, no drift found");
+        }
+
+        return toDTO(expected);
+    }
+
+    private static void addStatusCounts(Map<ReleaseStatId, Long> expected, List<ReleaseStatusCount> counts) {
+        for (ReleaseStatusCount count : counts) {
+            expected.merge(new ReleaseStatId(STATUS, count.status().name()), count.count(), Long::sum);
+        }
+    }
+
+    private static void addMonthCounts(Map<ReleaseStatId, Long> expected, List<ReleaseMonthCount> counts) {
+        for (ReleaseMonthCount count : counts) {
+            String month = count.year() != null ? YearMonth.of(count.year(), count.month()).toString() : NO_DATE;
+            expected.merge(new ReleaseStatId(MONTH, month), count.count(), Long::sum);
+        }
+    }
+
+    private ReleaseStatsDTO toDTO(Map<ReleaseStatId, Long> counts) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (ReleaseStatus status : ReleaseStatus.values()) {
+            long count = counts.getOrDefault(new ReleaseStatId(STATUS, status.name()), 0L);
+            byStatus.put(status.getDisplayName(), count);
+            total += count;
+        }
+
+        Map<String, Long> byMonth = new TreeMap<>();
+        counts.forEach((id, count) -> {
+            if (MONTH.equals(id.getDimension()) && count != 0) {
+                byMonth.put(id.getBucket(), count);
+            }
+        });
+
+        return ReleaseStatsDTO.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byMonth(byMonth)
+                .build();
+    }
+
+    private static String month(LocalDate releaseDate) {
+        return releaseDate != null ? YearMonth.from(releaseDate).toString() : NO_DATE;
+    }
+
+    private PendingDeltas pendingDeltas() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Release statistics can only be changed inside a transaction");
+        }
+
+        PendingDeltas deltas = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            deltas = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(deltas);
+        }
+        return deltas;
+    }
+
+    /**
+     * Counter deltas of the current transaction, applied just before it commits.
+     */
+    private class PendingDeltas implements TransactionSynchronization {
+
+        // Sorted, so every transaction locks counter rows in the same order
+        private final Map<ReleaseStatId, Long> deltas = new TreeMap<>();
+
+        void add(String dimension, String bucket, long delta) {
+            deltas.merge(new ReleaseStatId(dimension, bucket), delta, Long::sum);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (deltas.values().stream().allMatch(delta -> delta == 0)) {
+                return;
+            }
+
+            releaseStatRepository.lockCounters(LockModeType.PESSIMISTIC_READ);
+            deltas.forEach((id, delta) -> {
+                if (delta != 0) {
+                    releaseStatRepository.increment(id.getDimension(), id.getBucket(), delta);
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReleaseStatsService.this);
+        }
+    }
+}
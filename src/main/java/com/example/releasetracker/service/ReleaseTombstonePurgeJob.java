@@ -0,0 +1,20 @@
+package com.example.releasetracker.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes tombstones of releases deleted longer ago than the retention period.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReleaseTombstonePurgeJob {
+
+    private final ReleaseChangesService releaseChangesService;
+
+    @Scheduled(cron = "${release-tracker.changes.purge-cron}")
+    public void purge() {
+        releaseChangesService.purgeTombstones();
+    }
+}
@@ -2,6 +2,8 @@ package com.example.releasetracker.service;
 
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.metrics.ReleaseMetrics;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -12,8 +14,11 @@ import java.time.LocalDateTime;
  * Enforces workflow rules defined in {@link ReleaseStatus}.
  */
 @Service
+@RequiredArgsConstructor
 public class ReleaseWorkflowService {
 
+    private final ReleaseMetrics releaseMetrics;
+
     /**
      * Validates whether a release can transition
      * from its current status to the target status.
@@ -24,15 +29,26 @@ public class ReleaseWorkflowService {
      */
     public void validateTransition(Release current, ReleaseStatus target) {
         if (!current.getStatus().canTransitionTo(target)) {
-            throw new IllegalArgumentException(
-                    "Cannot change status from " + current.getStatus().getDisplayName() +
-                            " to " + target.getDisplayName() +
-                            ". Allowed: " + current.getStatus().allowedNext().stream()
-                            .map(ReleaseStatus::getDisplayName).toList()
-            );
+            releaseMetrics.transitionRejected(current.getStatus(), target);
+            throw new IllegalArgumentException(rejectionReason(current.getStatus(), target));
         }
     }
 
+    /**
+     * Describes why a status transition is not allowed.
+     * Callers rejecting a transition count it with {@link ReleaseMetrics#transitionRejected}.
+     *
+     * @param current current status
+     * @param target  target status
+     * @return human-readable reason, listing the allowed next statuses
+     */
+    public String rejectionReason(ReleaseStatus current, ReleaseStatus target) {
+        return "Cannot change status from " + current.getDisplayName() +
+                " to " + target.getDisplayName() +
+                ". Allowed: " + current.allowedNext().stream()
+                .map(ReleaseStatus::getDisplayName).toList();
+    }
+
     /**
      * Applies a valid status transition to a release.
      * Updates the status and last update timestamp.
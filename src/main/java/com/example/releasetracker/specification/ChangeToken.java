@@ -0,0 +1,71 @@
+package com.example.releasetracker.specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Opaque position in the change sync stream.
+ *
+ * Changes are read in {@code (last_update_at, id)} order, so the token
+ * carries the last update timestamp and ID of the last change a client
+ * has seen. Clients receive it Base64 (URL-safe) encoded and must treat it
+ * as an opaque token.
+ *
+ * The position alone cannot tell whether tombstones the client still needs
+ * were purged: during a full sync it trails through rows that have not been
+ * touched for years. The token therefore also carries the high-water mark of
+ * the sync, the time up to which the client had seen every change when the
+ * sync started; only deletes after it must still be delivered.
+ *
+ * @param lastUpdateAt last update timestamp of the position
+ * @param id           id of the position
+ * @param syncedUntil  high-water mark; tombstones from this time on are still needed
+ */
+public record ChangeToken(LocalDateTime lastUpdateAt, long id, LocalDateTime syncedUntil) {
+
+    /**
+     * Position before any change, used when a client syncs for the first time.
+     * A full sync needs no earlier tombstones, so its high-water mark is taken when it starts.
+     */
+    public static final ChangeToken INITIAL = new ChangeToken(LocalDateTime.of(1970, 1, 1, 0, 0), 0, null);
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this token into its opaque string form.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = lastUpdateAt.toString() + SEPARATOR + id + SEPARATOR + syncedUntil;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token opaque change token
+     * @return decoded token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(String.valueOf(SEPARATOR)), -1);
+            if (parts.length != 2 && parts.length != 3) {
+                throw new IllegalArgumentException("Invalid change token: " + token);
+            }
+
+            LocalDateTime lastUpdateAt = LocalDateTime.parse(parts[0]);
+            // Tokens issued before the high-water mark was added are only complete up to their position
+            LocalDateTime syncedUntil = parts.length == 3 ? LocalDateTime.parse(parts[2]) : lastUpdateAt;
+            return new ChangeToken(lastUpdateAt, Long.parseLong(parts[1]), syncedUntil);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.releasetracker.specification;
+
+import com.example.releasetracker.domain.entity.Release;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor pointing at the last row of a page.
+ *
+ * Releases are paged in {@code (release_date, id)} order, so the cursor
+ * carries exactly those two values. Clients receive it Base64 (URL-safe)
+ * encoded and must treat it as an opaque token.
+ *
+ * @param releaseDate release date of the last returned row (may be {@code null})
+ * @param id          id of the last returned row
+ */
+public record ReleaseCursor(LocalDate releaseDate, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Creates a cursor positioned after the given release.
+     *
+     * @param release last release of the current page
+     * @return cursor for the next page
+     */
+    public static ReleaseCursor after(Release release) {
+        return new ReleaseCursor(release.getReleaseDate(), release.getId());
+    }
+
+    /**
+     * Encodes this cursor into its opaque string form.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = (releaseDate != null ? releaseDate.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token opaque cursor token
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ReleaseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+
+            String date = raw.substring(0, separator);
+            return new ReleaseCursor(
+                    date.isEmpty() ? null : LocalDate.parse(date),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.releasetracker.specification;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fields of a release that can be requested with a sparse fieldset ({@code fields=}).
+ *
+ * Each field maps its name in the API response to the entity attribute it is
+ * read from, so a request selects exactly those columns.
+ */
+public enum ReleaseField {
+    ID("id", "id"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    STATUS("status", "status"),
+    RELEASE_DATE("releaseDate", "releaseDate"),
+    CREATED_AT("createdAt", "createdAt"),
+    LAST_UPDATED_AT("lastUpdatedAt", "lastUpdateAt"),
+    VERSION("version", "version");
+
+    private static final ReleaseField[] VALUES = values();
+
+    private static final String VALID_FIELDS_SUFFIX =
+            ". Valid values: " + Arrays.stream(VALUES).map(ReleaseField::getFieldName).toList();
+
+    private final String fieldName;
+    private final String attribute;
+
+    ReleaseField(String fieldName, String attribute) {
+        this.fieldName = fieldName;
+        this.attribute = attribute;
+    }
+
+    /**
+     * @return name of the field in the API response
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return entity attribute the field is read from
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Converts a selected column value into its API representation.
+     *
+     * @param value value read from the database
+     * @return value as returned by the API
+     */
+    public Object toApiValue(Object value) {
+        return this == STATUS && value != null ? ((ReleaseStatus) value).getDisplayName() : value;
+    }
+
+    /**
+     * Parses a comma separated list of field names. The ID is always included.
+     *
+     * @param fields comma separated field names, e.g. {@code id,name,status}
+     * @return requested fields in declaration order
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    public static Set<ReleaseField> parse(String fields) {
+        Set<ReleaseField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(fromFieldName(trimmed));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static ReleaseField fromFieldName(String name) {
+        for (ReleaseField field : VALUES) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name + VALID_FIELDS_SUFFIX);
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.releasetracker.specification;
 
+import com.example.releasetracker.domain.entity.ArchivedRelease;
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.StringJoiner;
 
 /**
  * Utility class for building dynamic JPA Specifications
@@ -18,9 +23,51 @@ import java.util.List;
  * - description (partial match, case-insensitive)
  * - status (exact match)
  * - release date range
+ *
+ * Also provides the keyset predicate used for cursor pagination.
+ *
+ * The parameters present in a call form its shape, a bit mask of the
+ * {@code *_PARAM} constants. There are {@link #SHAPE_COUNT} shapes; each one
+ * produces the same SQL whatever the values, so latency is reported per shape.
  */
 public class ReleaseSpecification {
 
+    public static final int NAME_PARAM = 1;
+    public static final int DESCRIPTION_PARAM = 1 << 1;
+    public static final int STATUS_PARAM = 1 << 2;
+    public static final int FROM_DATE_PARAM = 1 << 3;
+    public static final int TO_DATE_PARAM = 1 << 4;
+
+    /**
+     * Number of distinct filter shapes, one per combination of parameters.
+     */
+    public static final int SHAPE_COUNT = 1 << 5;
+
+    private static final String[] SHAPE_NAMES = new String[SHAPE_COUNT];
+
+    static {
+        String[] params = {"name", "description", "status", "fromDate", "toDate"};
+        for (int shape = 0; shape < SHAPE_COUNT; shape++) {
+            StringJoiner joiner = new StringJoiner("+");
+            joiner.setEmptyValue("none");
+            for (int i = 0; i < params.length; i++) {
+                if ((shape & (1 << i)) != 0) {
+                    joiner.add(params[i]);
+                }
+            }
+            SHAPE_NAMES[shape] = joiner.toString();
+        }
+    }
+
+    /**
+     * Stable ordering used for keyset pagination.
+     * Must match the comparison performed in {@link #after(ReleaseCursor)}.
+     */
+    public static final Sort KEYSET_ORDER = Sort.by(
+            Sort.Order.asc("releaseDate"),
+            Sort.Order.asc("id")
+    );
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -85,5 +132,113 @@ public class ReleaseSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
 
+    /**
+     * Computes the shape of a filter call, using the same presence rules as
+     * {@link #filterBy}: blank strings count as absent.
+     *
+     * @param name        partial match for release name
+     * @param description partial match for description
+     * @param status      exact match for status
+     * @param fromDate    minimum release date (inclusive)
+     * @param toDate      maximum release date (inclusive)
+     * @return bit mask of the present parameters, below {@link #SHAPE_COUNT}
+     */
+    public static int shapeOf(
+            String name,
+            String description,
+            ReleaseStatus status,
+            LocalDate fromDate,
+            LocalDate toDate) {
+
+        int shape = 0;
+        if (name != null && !name.isBlank()) {
+            shape |= NAME_PARAM;
+        }
+        if (description != null && !description.isBlank()) {
+            shape |= DESCRIPTION_PARAM;
+        }
+        if (status != null) {
+            shape |= STATUS_PARAM;
+        }
+        if (fromDate != null) {
+            shape |= FROM_DATE_PARAM;
+        }
+        if (toDate != null) {
+            shape |= TO_DATE_PARAM;
+        }
+        return shape;
+    }
+
+    /**
+     * Returns a readable identifier of a shape, e.g. {@code name+status}, or {@code none}.
+     *
+     * @param shape shape returned by {@link #shapeOf}
+     * @return the present parameter names joined with {@code +}
+     */
+    public static String shapeName(int shape) {
+        return SHAPE_NAMES[shape];
+    }
+
+    /**
+     * Builds the keyset predicate selecting rows that come after the cursor
+     * in {@link #KEYSET_ORDER}. Unlike OFFSET paging the database can seek
+     * directly to the cursor position, so deep pages cost the same as the first one.
+     *
+     * NULL release dates sort first on both MySQL and H2.
+     *
+     * @param cursor position of the last row of the previous page, or {@code null} for the first page
+     * @return keyset specification
+     */
+    public static Specification<Release> after(ReleaseCursor cursor) {
+
+        return (root, query, cb) -> {
+
+            if (cursor == null) {
+                return null;
+            }
+
+            Path<LocalDate> releaseDate = root.get("releaseDate");
+            Path<Long> id = root.get("id");
+
+            if (cursor.releaseDate() == null) {
+                return cb.or(
+                        cb.isNotNull(releaseDate),
+                        cb.greaterThan(id, cursor.id())
+                );
+            }
+
+            return cb.and(
+                    cb.greaterThanOrEqualTo(releaseDate, cursor.releaseDate()),
+                    cb.or(
+                            cb.greaterThan(releaseDate, cursor.releaseDate()),
+                            cb.greaterThan(id, cursor.id())
+                    )
+            );
+        };
+    }
+
+    /**
+     * Applies a release specification to archived releases.
+     *
+     * The specifications built here refer to attributes by name only, and
+     * {@link ArchivedRelease} declares the same attributes as {@link Release}.
+     *
+     * @param specification specification built for releases
+     * @return the same specification, typed for archived releases
+     */
+    @SuppressWarnings("unchecked")
+    public static Specification<ArchivedRelease> forArchive(Specification<Release> specification) {
+        return (Specification<ArchivedRelease>) (Specification<?>) specification;
+    }
+
+    /**
+     * Builds a specification matching the given release IDs.
+     *
+     * @param ids release IDs
+     * @return specification for querying releases
+     */
+    public static Specification<Release> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+}
@@ -0,0 +1,4 @@
+-- Supports keyset pagination ordered by (release_date, id) combined with the status filter.
+-- idx_releases_release_date already covers the unfiltered case because InnoDB
+-- secondary indexes carry the primary key.
+CREATE INDEX idx_releases_status_release_date ON releases(status, release_date, id);
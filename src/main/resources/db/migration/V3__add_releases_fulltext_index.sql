@@ -0,0 +1,4 @@
+-- Backs relevance-ranked search (q=) on name and description.
+-- The ngram parser tokenizes without relying on whitespace, so partial words still match.
+ALTER TABLE releases
+    ADD FULLTEXT INDEX ft_releases_name_description (name, description) WITH PARSER ngram;
@@ -0,0 +1,2 @@
+-- Optimistic locking counter, mapped with @Version and exposed as the ETag.
+ALTER TABLE releases ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
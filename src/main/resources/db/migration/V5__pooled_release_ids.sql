@@ -0,0 +1,12 @@
+-- Release IDs are now allocated by Hibernate's pooled optimizer in blocks of 50
+-- (MySQL has no sequences, so Hibernate emulates one with this table).
+-- IDENTITY generation disables JDBC insert batching, the pooled allocator does not.
+CREATE TABLE releases_seq (
+                              next_val BIGINT
+);
+
+-- Start the first block past every existing ID
+INSERT INTO releases_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM releases;
+
+ALTER TABLE releases MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,17 @@
+-- Release counters per dimension bucket, maintained transactionally by the application:
+--   dimension 'status' -> bucket is the status name (e.g. ON_DEV)
+--   dimension 'month'  -> bucket is the release month (yyyy-MM), or 'none' without a release date
+CREATE TABLE release_stats (
+                               dimension VARCHAR(16) NOT NULL,
+                               bucket VARCHAR(32) NOT NULL,
+                               release_count BIGINT NOT NULL,
+                               PRIMARY KEY (dimension, bucket)
+);
+
+INSERT INTO release_stats (dimension, bucket, release_count)
+SELECT 'status', status, COUNT(*) FROM releases GROUP BY status;
+
+INSERT INTO release_stats (dimension, bucket, release_count)
+SELECT 'month', COALESCE(DATE_FORMAT(release_date, '%Y-%m'), 'none'), COUNT(*)
+FROM releases
+GROUP BY COALESCE(DATE_FORMAT(release_date, '%Y-%m'), 'none');
@@ -0,0 +1,16 @@
+-- Append-only status history. No foreign key: the history of a deleted release is kept.
+CREATE TABLE release_status_events (
+                                       id BIGINT NOT NULL AUTO_INCREMENT,
+                                       release_id BIGINT NOT NULL,
+                                       from_status VARCHAR(50),
+                                       to_status VARCHAR(50) NOT NULL,
+                                       occurred_at DATETIME(6) NOT NULL,
+                                       PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_release_status_events_release_occurred ON release_status_events (release_id, occurred_at);
+
+-- Earlier transitions were never recorded; start each existing release's history
+-- with its current status, as of its last update
+INSERT INTO release_status_events (release_id, from_status, to_status, occurred_at)
+SELECT id, NULL, status, last_update_at FROM releases;
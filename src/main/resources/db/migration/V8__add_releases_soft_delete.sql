@@ -0,0 +1,10 @@
+-- Deleted releases are kept as tombstones so sync clients can see the delete
+-- in GET /api/releases/changes. Rows with deleted_at set are hidden from the
+-- entity (@SQLRestriction) and purged after the tombstone retention period.
+ALTER TABLE releases ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- Sub-second precision keeps change tokens from lumping a whole second of updates together
+ALTER TABLE releases MODIFY last_update_at DATETIME(6) NOT NULL;
+
+-- Change sync reads releases in (last_update_at, id) order from a token onwards
+CREATE INDEX idx_releases_last_update_at ON releases(last_update_at, id);
@@ -0,0 +1,17 @@
+-- Cold storage for releases that have been Done for longer than release-tracker.archive.age.
+-- Rows are moved here by the archive job and never change again.
+CREATE TABLE releases_archive (
+                                  id BIGINT NOT NULL,
+                                  name VARCHAR(255) NOT NULL,
+                                  description TEXT,
+                                  status VARCHAR(50) NOT NULL,
+                                  release_date DATE,
+                                  created_at DATETIME NOT NULL,
+                                  last_update_at DATETIME(6) NOT NULL,
+                                  version BIGINT NOT NULL,
+                                  archived_at DATETIME(6) NOT NULL,
+                                  PRIMARY KEY (id)
+);
+
+-- Same keyset order as releases, for listings with includeArchived=true
+CREATE INDEX idx_releases_archive_release_date ON releases_archive(release_date, id);
@@ -0,0 +1,98 @@
+package com.example.releasetracker.cache;
+
+import com.example.releasetracker.config.ResponseCacheProperties;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReleaseResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldServeSecondLookupFromCache() {
+        ReleaseResponseCache cache = cache(DataSize.ofKilobytes(64));
+        AtomicInteger loads = new AtomicInteger();
+
+        ReleaseResponseCache.CachedRelease first = cache.get(1L, () -> load(1L, loads));
+        ReleaseResponseCache.CachedRelease second = cache.get(1L, () -> load(1L, loads));
+
+        assertSame(first.body(), second.body());
+        assertEquals(4L, second.version());
+        assertEquals(4L, cache.cachedVersion(1L));
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void shouldReloadAfterInvalidate() {
+        ReleaseResponseCache cache = cache(DataSize.ofKilobytes(64));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> load(1L, loads));
+        cache.invalidate(1L);
+        cache.get(1L, () -> load(1L, loads));
+
+        assertEquals(2, loads.get());
+        assertEquals(0.0, gets("hit"));
+    }
+
+    @Test
+    void shouldNotCacheValueLoadedConcurrentlyWithInvalidate() {
+        ReleaseResponseCache cache = cache(DataSize.ofKilobytes(64));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load(1L, loads);
+        });
+
+        assertEquals(0.0, registry.get("cache.size").gauge().value());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedWhenFull() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        int entrySize = objectMapper.writeValueAsBytes(load(1L, loads)).length;
+        ReleaseResponseCache cache = cache(DataSize.ofBytes(entrySize * 2L));
+
+        cache.get(1L, () -> load(1L, loads));
+        cache.get(2L, () -> load(2L, loads));
+        cache.get(1L, () -> load(1L, loads));
+        cache.get(3L, () -> load(3L, loads));
+
+        assertEquals(2.0, registry.get("cache.size").gauge().value());
+        assertEquals(1.0, registry.get("cache.evictions").functionCounter().count());
+        assertTrue(registry.get("cache.bytes").gauge().value() <= entrySize * 2L);
+
+        loads.set(0);
+        cache.get(1L, () -> load(1L, loads));
+        assertEquals(0, loads.get());
+    }
+
+    private ReleaseResponseCache cache(DataSize maxSize) {
+        return new ReleaseResponseCache(objectMapper, new ResponseCacheProperties(true, maxSize), registry);
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private ReleaseResponseDTO load(long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ReleaseResponseDTO.builder()
+                .id(id)
+                .name("Release " + id)
+                .status("Created")
+                .version(4L)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.releasetracker.concurrency;
+
+import com.example.releasetracker.concurrency.AdmissionControlFilter.Cost;
+import com.example.releasetracker.config.AdmissionControlProperties;
+import com.example.releasetracker.config.AdmissionControlProperties.Limit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdmissionControlFilterTest {
+
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(
+            new AdmissionControlProperties(true, Duration.ofSeconds(2),
+                    new Limit(4, 0, Duration.ZERO),
+                    new Limit(1, 0, Duration.ZERO)),
+            new ObjectMapper().findAndRegisterModules(),
+            new SimpleMeterRegistry());
+
+    @Test
+    void classifiesRequestsByCost() {
+        assertEquals(Cost.CHEAP, AdmissionControlFilter.costOf(get("/api/releases/42")));
+        assertEquals(Cost.CHEAP, AdmissionControlFilter.costOf(get("/api/releases", "status", "On PROD")));
+        assertEquals(Cost.CHEAP, AdmissionControlFilter.costOf(
+                get("/api/releases", "fromDate", "2026-01-01", "toDate", "2026-01-31")));
+        assertEquals(Cost.CHEAP, AdmissionControlFilter.costOf(new MockHttpServletRequest("PATCH", "/api/releases/42/status")));
+
+        assertEquals(Cost.EXPENSIVE, AdmissionControlFilter.costOf(get("/api/releases", "description", "ledger")));
+        assertEquals(Cost.EXPENSIVE, AdmissionControlFilter.costOf(get("/api/releases", "q", "payments")));
+        assertEquals(Cost.EXPENSIVE, AdmissionControlFilter.costOf(get("/api/releases", "fromDate", "2026-01-01")));
+        assertEquals(Cost.EXPENSIVE, AdmissionControlFilter.costOf(get("/api/releases/export")));
+        assertEquals(Cost.EXPENSIVE, AdmissionControlFilter.costOf(new MockHttpServletRequest("POST", "/api/releases/batch")));
+    }
+
+    @Test
+    void rejectsExpensiveRequestsWhileCheapOnesAreStillAdmitted() throws Exception {
+        MockHttpServletResponse nestedSearch = new MockHttpServletResponse();
+        MockHttpServletResponse nestedLookup = new MockHttpServletResponse();
+
+        // The outer search holds the only expensive slot while the nested requests arrive
+        filter.doFilter(get("/api/releases", "description", "ledger"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(get("/api/releases", "name", "payments"), nestedSearch, new MockFilterChain());
+            filter.doFilter(get("/api/releases/42"), nestedLookup, new MockFilterChain());
+        });
+
+        assertEquals(429, nestedSearch.getStatus());
+        assertEquals("2", nestedSearch.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, nestedLookup.getStatus());
+
+        // The slot is free again once the outer request completed
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(get("/api/releases", "q", "payments"), next, new MockFilterChain());
+        assertEquals(200, next.getStatus());
+    }
+
+    private static MockHttpServletRequest get(String uri, String... params) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        for (int i = 0; i < params.length; i += 2) {
+            request.addParameter(params[i], params[i + 1]);
+        }
+        return request;
+    }
+}
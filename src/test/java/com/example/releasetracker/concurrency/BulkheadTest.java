@@ -0,0 +1,60 @@
+package com.example.releasetracker.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsCallsBeyondLimit() {
+        Bulkhead bulkhead = new Bulkhead("test", 2, Duration.ZERO);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(2, bulkhead.getInFlight());
+
+        bulkhead.release();
+
+        assertTrue(bulkhead.tryAcquire());
+    }
+
+    @Test
+    void waitsUpToMaxWaitForPermit() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofSeconds(5));
+        assertTrue(bulkhead.tryAcquire());
+
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bulkhead.release();
+        });
+
+        assertTrue(bulkhead.tryAcquire());
+        releaser.join();
+    }
+
+    @Test
+    void rejectsWithoutWaitingWhenQueueIsFull() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofSeconds(5), 0);
+        assertTrue(bulkhead.tryAcquire());
+
+        long started = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire());
+        assertTrue(System.nanoTime() - started < Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void rejectsInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 0, Duration.ZERO));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.releasetracker.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        SingleFlight<String, Object> flights = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> calls = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                calls.add(executor.submit(() -> flights.execute("status=On PROD", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return result;
+                })));
+            }
+
+            waitUntil(() -> flights.getExecuted() + flights.getJoined() == 10);
+            release.countDown();
+
+            for (Future<Object> call : calls) {
+                assertSame(result, call.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, flights.getExecuted());
+        assertEquals(9, flights.getJoined());
+    }
+
+    @Test
+    void completedResultIsReusedOnlyWithinTtl() throws Exception {
+        SingleFlight<String, Integer> withoutTtl = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        withoutTtl.execute("key", loads::incrementAndGet);
+        withoutTtl.execute("key", loads::incrementAndGet);
+        assertEquals(2, loads.get());
+
+        SingleFlight<String, Integer> withTtl = new SingleFlight<>(Duration.ofMillis(200));
+        assertEquals(3, withTtl.execute("key", loads::incrementAndGet));
+        assertEquals(3, withTtl.execute("key", loads::incrementAndGet));
+        assertEquals(1, withTtl.getReused());
+
+        Thread.sleep(300);
+        assertEquals(4, withTtl.execute("key", loads::incrementAndGet));
+    }
+
+    @Test
+    void failuresAreSharedButNotReused() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(Duration.ofMinutes(1));
+
+        assertThrows(IllegalArgumentException.class, () -> flights.execute("key", () -> {
+            throw new IllegalArgumentException("Invalid cursor");
+        }));
+
+        assertEquals(7, flights.execute("key", () -> 7));
+    }
+
+    @Test
+    void invalidateForgetsReusableResults() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(Duration.ofMinutes(1));
+        flights.execute("key", () -> 1);
+
+        flights.invalidate();
+
+        assertEquals(2, flights.execute("key", () -> 2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
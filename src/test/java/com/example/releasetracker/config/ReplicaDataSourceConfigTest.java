@@ -0,0 +1,44 @@
+package com.example.releasetracker.config;
+
+import com.example.releasetracker.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaDataSourceConfigTest {
+
+    private final ReplicaDataSourceConfig config = new ReplicaDataSourceConfig();
+
+    @Test
+    void replicaPools_shouldPublishPoolMetricsAndCloseWithTheRoutingDataSource() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:replica-config-primary");
+        ReplicaProperties replicaProperties = new ReplicaProperties(true, Duration.ofSeconds(2),
+                List.of(new ReplicaProperties.Replica("jdbc:h2:mem:replica-config-1", "sa", "", 3)));
+
+        HikariDataSource primary = config.primaryDataSource(properties);
+        ReplicaRoutingDataSource routing = config.replicaRoutingDataSource(primary, properties, replicaProperties,
+                new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class));
+        HikariDataSource replica = (HikariDataSource) routing.getResolvedDataSources().get("replica-1");
+
+        try (Connection ignored = replica.getConnection()) {
+            assertEquals(3.0, registry.get("hikaricp.connections.max").tag("pool", "replica-1").gauge().value());
+        }
+
+        routing.close();
+        primary.close();
+        assertTrue(replica.isClosed());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.releasetracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupConfigTest {
+
+    @Test
+    void lazySpringdoc_shouldOnlyMarkSpringdocBeansLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("springdocConfiguration",
+                definition("org.springdoc.core.configuration.SpringDocConfiguration", null));
+        beanFactory.registerBeanDefinition("openApiResource",
+                definition(null, "springdocConfiguration"));
+        beanFactory.registerBeanDefinition("releaseService",
+                definition("com.example.releasetracker.service.ReleaseService", null));
+
+        StartupConfig.lazySpringdocPostProcessor().postProcessBeanFactory(beanFactory);
+
+        assertTrue(beanFactory.getBeanDefinition("springdocConfiguration").isLazyInit());
+        assertTrue(beanFactory.getBeanDefinition("openApiResource").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("releaseService").isLazyInit());
+    }
+
+    private static GenericBeanDefinition definition(String className, String factoryBean) {
+        GenericBeanDefinition definition = new GenericBeanDefinition();
+        definition.setBeanClassName(className);
+        definition.setFactoryBeanName(factoryBean);
+        return definition;
+    }
+}
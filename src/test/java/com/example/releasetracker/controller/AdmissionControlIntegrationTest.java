@@ -0,0 +1,119 @@
+package com.example.releasetracker.controller;
+
+import com.example.releasetracker.cache.ReleaseResponseCache;
+import com.example.releasetracker.config.AdmissionControlProperties;
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.service.ReleaseListCoalescer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the admission limits against the connection pool they run on.
+ *
+ * List requests are held inside the service with a database connection each,
+ * like long-running searches, until every expensive slot and all but one cheap
+ * slot are taken. The last cheap slot must still get a connection right away.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+class AdmissionControlIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AdmissionControlProperties admission;
+
+    @Autowired
+    private ReleaseResponseCache releaseResponseCache;
+
+    @MockitoSpyBean
+    private ReleaseListCoalescer releaseListCoalescer;
+
+    @Test
+    void getOne_shouldCompleteWithinCheapMaxWait_whileExpensiveRequestsHoldTheirConnections() throws Exception {
+        long id = createRelease();
+        // Warm up the lookup, then make sure the next one has to read the database
+        mockMvc.perform(get("/api/releases/" + id)).andExpect(status().isOk());
+        releaseResponseCache.invalidate(id);
+
+        int expensive = admission.expensive().maxConcurrent();
+        int cheap = admission.cheap().maxConcurrent() - 1;
+        CountDownLatch holding = new CountDownLatch(expensive + cheap);
+        CountDownLatch done = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.createStatement().execute("select 1");
+                holding.countDown();
+                done.await(30, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(releaseListCoalescer).filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+
+        ExecutorService clients = Executors.newFixedThreadPool(expensive + cheap);
+        try {
+            for (int i = 0; i < expensive; i++) {
+                clients.submit(() -> mockMvc.perform(get("/api/releases").param("q", "ledger")));
+            }
+            for (int i = 0; i < cheap; i++) {
+                clients.submit(() -> mockMvc.perform(get("/api/releases").param("status", "Created")));
+            }
+            assertTrue(holding.await(10, TimeUnit.SECONDS),
+                    "Admitted requests did not all get a connection: " + holding.getCount() + " still waiting");
+
+            assertTimeoutPreemptively(admission.cheap().maxWait(), () ->
+                    mockMvc.perform(get("/api/releases/" + id)).andExpect(status().isOk()));
+        } finally {
+            done.countDown();
+            clients.shutdown();
+            assertTrue(clients.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private long createRelease() throws Exception {
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName("Point lookup under load");
+        request.setReleaseDate(LocalDate.now());
+
+        String response = mockMvc.perform(post("/api/releases")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.releasetracker.controller;
+
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application against a real MySQL, schema created by the Flyway migrations.
+ *
+ * The other tests use H2 with a schema generated from the entities, so this is
+ * the only test that applies the migrations, validates the entities against
+ * them and exercises the FULLTEXT index behind {@code q=}. Skipped without Docker.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+class MySqlIntegrationTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("release-tracker.changes.safety-lag", () -> "0s");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_shouldApplyFromEmptySchemaToLatest() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertEquals(9, applied.length);
+        assertEquals("9", applied[applied.length - 1].getVersion().getVersion());
+        assertTrue(Arrays.stream(applied).allMatch(migration -> migration.getState().isApplied()
+                && !migration.getState().isFailed()));
+
+        Integer fullTextIndexes = jdbcTemplate.queryForObject(
+                "select count(distinct index_name) from information_schema.statistics " +
+                        "where table_schema = database() and table_name = 'releases' and index_type = 'FULLTEXT'",
+                Integer.class);
+        assertEquals(1, fullTextIndexes);
+    }
+
+    @Test
+    void search_shouldRankMatchesThroughTheFullTextIndex() throws Exception {
+        // None of the bigrams of "ledger" occur in the third release
+        long mostRelevant = createRelease("Ledger sync", "Ledger export for the ledger service");
+        long lessRelevant = createRelease("Payments", "Adds a ledger column");
+        createRelease("Wiki", "Docs only");
+
+        mockMvc.perform(get("/api/releases").param("q", "ledger"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(mostRelevant))
+                .andExpect(jsonPath("$.items[1].id").value(lessRelevant));
+    }
+
+    @Test
+    void delete_shouldLeaveTombstoneAndUpdateStats() throws Exception {
+        long id = createRelease("Soft deleted on MySQL", null);
+
+        mockMvc.perform(delete("/api/releases/" + id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/releases/" + id))
+                .andExpect(status().isNotFound());
+
+        Integer tombstones = jdbcTemplate.queryForObject(
+                "select count(*) from releases where id = ? and deleted_at is not null", Integer.class, id);
+        assertEquals(1, tombstones);
+
+        Long live = jdbcTemplate.queryForObject(
+                "select count(*) from releases where deleted_at is null", Long.class);
+        mockMvc.perform(get("/api/releases/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(live.intValue()));
+    }
+
+    private long createRelease(String name, String description) throws Exception {
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName(name);
+        request.setDescription(description);
+        request.setReleaseDate(LocalDate.now());
+
+        String response = mockMvc.perform(post("/api/releases")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
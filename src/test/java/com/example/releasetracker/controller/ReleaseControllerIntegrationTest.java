@@ -1,22 +1,46 @@
 package com.example.releasetracker.controller;
 
+import com.example.releasetracker.dto.ReleaseBatchUpdateDTO;
 import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.example.releasetracker.dto.ReleaseStatusTransitionRequestDTO;
+import com.example.releasetracker.history.StatusEventWriter;
+import com.example.releasetracker.service.ReleaseArchiveService;
+import com.example.releasetracker.specification.ChangeToken;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -31,6 +55,15 @@ class ReleaseControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private StatusEventWriter statusEventWriter;
+
+    @Autowired
+    private ReleaseArchiveService releaseArchiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void shouldReturn201WhenCreated() throws Exception {
         ReleaseRequestDTO request = new ReleaseRequestDTO();
@@ -80,5 +113,660 @@ class ReleaseControllerIntegrationTest {
         mockMvc.perform(get("/api/releases/999999"))
                 .andExpect(status().isNotFound());
     }
-}
 
+    @Test
+    void shouldPageThroughListWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            ReleaseRequestDTO request = new ReleaseRequestDTO();
+            request.setName("Paged Release " + i);
+            request.setReleaseDate(LocalDate.of(2026, 1, 1).plusDays(i));
+
+            mockMvc.perform(post("/api/releases")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/releases")
+                        .param("name", "Paged Release")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("Paged Release 0"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/releases")
+                        .param("name", "Paged Release")
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Paged Release 2"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    void shouldReturnBadRequest_whenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/releases").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportFilteredReleasesAsNdjson() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            ReleaseRequestDTO request = new ReleaseRequestDTO();
+            request.setName("Exported Release " + i);
+            request.setReleaseDate(LocalDate.now());
+
+            mockMvc.perform(post("/api/releases")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult result = mockMvc.perform(get("/api/releases/export").param("name", "Exported Release"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("Exported Release 0"));
+        assertEquals("Exported Release 1", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    void shouldHonourConditionalRequests() throws Exception {
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName("Conditional Release");
+        request.setReleaseDate(LocalDate.now());
+
+        String location = mockMvc.perform(post("/api/releases")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LOCATION);
+
+        mockMvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        request.setDescription("Changed");
+        mockMvc.perform(put(location)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(put(location)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.description").value("Changed"));
+    }
+
+    @Test
+    void shouldReportPerItemResultsForBatchCreateAndUpdate() throws Exception {
+        ReleaseRequestDTO valid = new ReleaseRequestDTO();
+        valid.setName("Batch Release");
+        valid.setReleaseDate(LocalDate.now());
+
+        ReleaseRequestDTO missingName = new ReleaseRequestDTO();
+        missingName.setReleaseDate(LocalDate.now());
+
+        String createResponse = mockMvc.perform(post("/api/releases/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, missingName))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].release.name").value("Batch Release"))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        long id = objectMapper.readTree(createResponse).at("/results/0/release/id").asLong();
+
+        ReleaseBatchUpdateDTO promote = new ReleaseBatchUpdateDTO();
+        promote.setId(id);
+        promote.setName("Batch Release");
+        promote.setStatus("In Development");
+        promote.setReleaseDate(LocalDate.now());
+
+        ReleaseBatchUpdateDTO skipAhead = new ReleaseBatchUpdateDTO();
+        skipAhead.setId(id);
+        skipAhead.setName("Batch Release");
+        skipAhead.setStatus("Done");
+        skipAhead.setReleaseDate(LocalDate.now());
+
+        ReleaseBatchUpdateDTO unknown = new ReleaseBatchUpdateDTO();
+        unknown.setId(999999L);
+        unknown.setName("Missing");
+        unknown.setReleaseDate(LocalDate.now());
+
+        mockMvc.perform(put("/api/releases/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(promote, skipAhead, unknown))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].release.status").value("In Development"))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[2].status").value(404));
+    }
+
+    @Test
+    void shouldTransitionManyReleasesAndReportRejected() throws Exception {
+        long first = createRelease("Train Release A");
+        long second = createRelease("Train Release B");
+
+        ReleaseStatusTransitionRequestDTO promote = new ReleaseStatusTransitionRequestDTO();
+        promote.setTargetStatus("In Development");
+        promote.setIds(List.of(first, second, 999999L));
+
+        mockMvc.perform(post("/api/releases/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(promote)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved.length()").value(2))
+                .andExpect(jsonPath("$.rejected.length()").value(1))
+                .andExpect(jsonPath("$.rejected[0].id").value(999999));
+
+        ReleaseStatusTransitionRequestDTO skipAhead = new ReleaseStatusTransitionRequestDTO();
+        skipAhead.setTargetStatus("On PROD");
+        skipAhead.setName("Train Release");
+
+        mockMvc.perform(post("/api/releases/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(skipAhead)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved.length()").value(0))
+                .andExpect(jsonPath("$.rejected.length()").value(2))
+                .andExpect(jsonPath("$.rejected[0].currentStatus").value("In Development"));
+
+        mockMvc.perform(get("/api/releases/" + first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("In Development"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void shouldChangeStatusAndDeleteWithSingleStatements() throws Exception {
+        long id = createRelease("Lean Write Release");
+
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"In Development\"}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"Done\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/releases/" + id))
+                .andExpect(jsonPath("$.status").value("In Development"));
+
+        mockMvc.perform(delete("/api/releases/" + id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/releases/" + id))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"On DEV\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void stats_shouldFollowCreateTransitionAndDelete() throws Exception {
+        JsonNode before = stats();
+
+        long id = createRelease("Stats Release");
+        createRelease("Other Stats Release");
+
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"In Development\"}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/releases/" + id))
+                .andExpect(status().isNoContent());
+
+        JsonNode after = stats();
+        String month = YearMonth.now().toString();
+
+        assertEquals(before.get("total").asLong() + 1, after.get("total").asLong());
+        assertEquals(before.at("/byStatus/Created").asLong() + 1, after.at("/byStatus/Created").asLong());
+        assertEquals(before.at("/byStatus/In Development").asLong(), after.at("/byStatus/In Development").asLong());
+        assertEquals(before.path("byMonth").path(month).asLong() + 1, after.path("byMonth").path(month).asLong());
+
+        // Incremental counters must agree with a full recount
+        String rebuilt = mockMvc.perform(post("/api/releases/stats/rebuild"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertEquals(after, objectMapper.readTree(rebuilt));
+    }
+
+    @Test
+    void history_shouldListStatusChangesWithDwellTimes() throws Exception {
+        long id = createRelease("History Release");
+
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"In Development\"}"))
+                .andExpect(status().isNoContent());
+
+        statusEventWriter.flush();
+
+        mockMvc.perform(get("/api/releases/" + id + "/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.releaseId").value(id))
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].fromStatus").doesNotExist())
+                .andExpect(jsonPath("$.events[0].toStatus").value("Created"))
+                .andExpect(jsonPath("$.events[1].fromStatus").value("Created"))
+                .andExpect(jsonPath("$.events[1].toStatus").value("In Development"))
+                .andExpect(jsonPath("$.dwellSeconds.Created").exists())
+                .andExpect(jsonPath("$.dwellSeconds['In Development']").exists());
+
+        mockMvc.perform(get("/api/releases/999999/history"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void list_shouldNegotiateBinaryFormats() throws Exception {
+        createRelease("Binary Release");
+
+        for (JsonFactory factory : List.of(new SmileFactory(), new CBORFactory())) {
+            MediaType mediaType = factory instanceof SmileFactory
+                    ? MediaType.valueOf("application/x-jackson-smile")
+                    : MediaType.valueOf("application/cbor");
+
+            byte[] body = mockMvc.perform(get("/api/releases")
+                            .param("name", "Binary Release")
+                            .accept(mediaType))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(mediaType))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray();
+
+            JsonNode item = new ObjectMapper(factory).readTree(body).get("items").get(0);
+            assertEquals("Binary Release", item.get("name").asText());
+            assertEquals("Created", item.get("status").asText());
+            assertEquals(LocalDate.now().toString(), item.get("releaseDate").asText());
+        }
+
+        mockMvc.perform(get("/api/releases")
+                        .param("name", "Binary Release")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void list_shouldReturnOnlyRequestedFields() throws Exception {
+        long id = createRelease("Sparse Release");
+
+        mockMvc.perform(get("/api/releases")
+                        .param("name", "Sparse Release")
+                        .param("fields", "name,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(id))
+                .andExpect(jsonPath("$.items[0].name").value("Sparse Release"))
+                .andExpect(jsonPath("$.items[0].status").value("Created"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].releaseDate").doesNotExist());
+
+        mockMvc.perform(get("/api/releases").param("fields", "name,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void list_shouldPageSparseFieldsWithCursor() throws Exception {
+        createRelease("Sparse Paged A");
+        createRelease("Sparse Paged B");
+
+        String firstPage = mockMvc.perform(get("/api/releases")
+                        .param("name", "Sparse Paged")
+                        .param("fields", "name")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/releases")
+                        .param("name", "Sparse Paged")
+                        .param("fields", "name")
+                        .param("limit", "1")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    void changes_shouldReturnUpdatesAndTombstonesSinceToken() throws Exception {
+        long updated = createRelease("Synced Release");
+        long deleted = createRelease("Deleted Synced Release");
+
+        JsonNode changes = changes(null);
+        while (changes.get("hasMore").asBoolean()) {
+            changes = changes(changes.get("token").asText());
+        }
+        String token = changes.get("token").asText();
+
+        mockMvc.perform(patch("/api/releases/" + updated + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"In Development\"}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/releases/" + deleted))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/releases/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value(updated))
+                .andExpect(jsonPath("$.changed[0].status").value("In Development"))
+                .andExpect(jsonPath("$.deleted.length()").value(1))
+                .andExpect(jsonPath("$.deleted[0].id").value(deleted))
+                .andExpect(jsonPath("$.deleted[0].deletedAt").exists())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        mockMvc.perform(get("/api/releases/" + deleted))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/releases/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void changes_shouldPageAFullSyncThroughRowsOlderThanTheRetention() throws Exception {
+        List<Long> aged = List.of(createRelease("Aged Release A"), createRelease("Aged Release B"),
+                createRelease("Aged Release C"));
+        // Untouched for longer than the tombstone retention, as rows from before soft deletes are
+        for (Long id : aged) {
+            jdbcTemplate.update("update releases set last_update_at = ? where id = ?",
+                    LocalDateTime.now().minusDays(400), id);
+        }
+
+        List<Long> synced = new ArrayList<>();
+        String token = null;
+        boolean hasMore = true;
+        for (int page = 0; hasMore && page < 10_000; page++) {
+            var request = get("/api/releases/changes").param("limit", "1");
+            if (token != null) {
+                request.param("since", token);
+            }
+            String response = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            JsonNode changes = objectMapper.readTree(response);
+            changes.get("changed").forEach(release -> synced.add(release.get("id").asLong()));
+            token = changes.get("token").asText();
+            hasMore = changes.get("hasMore").asBoolean();
+        }
+
+        assertFalse(hasMore);
+        assertTrue(synced.containsAll(aged));
+    }
+
+    @Test
+    void changes_shouldRejectTokenOlderThanTheRetention() throws Exception {
+        LocalDateTime expired = LocalDateTime.now().minusDays(400);
+
+        mockMvc.perform(get("/api/releases/changes")
+                        .param("since", new ChangeToken(expired, 0, expired).encode()))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+
+        // A token mid-way through a recent sync stays valid even though its position is old
+        mockMvc.perform(get("/api/releases/changes")
+                        .param("since", new ChangeToken(expired, 0, LocalDateTime.now().minusMinutes(1)).encode()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void changes_shouldIncludeEditsThatKeepTheStatus() throws Exception {
+        long edited = createRelease("Edited Release");
+        long batchEdited = createRelease("Batch Edited Release");
+
+        JsonNode changes = changes(null);
+        while (changes.get("hasMore").asBoolean()) {
+            changes = changes(changes.get("token").asText());
+        }
+        String token = changes.get("token").asText();
+
+        ReleaseRequestDTO rename = new ReleaseRequestDTO();
+        rename.setName("Renamed Release");
+        rename.setStatus("Created");
+        rename.setReleaseDate(LocalDate.now());
+
+        mockMvc.perform(put("/api/releases/" + edited)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rename)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Created"));
+
+        ReleaseBatchUpdateDTO describe = new ReleaseBatchUpdateDTO();
+        describe.setId(batchEdited);
+        describe.setName("Batch Edited Release");
+        describe.setDescription("Now with a description");
+        describe.setReleaseDate(LocalDate.now());
+
+        mockMvc.perform(put("/api/releases/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(describe))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1));
+
+        mockMvc.perform(get("/api/releases/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(2))
+                .andExpect(jsonPath("$.changed[0].id").value(edited))
+                .andExpect(jsonPath("$.changed[0].name").value("Renamed Release"))
+                .andExpect(jsonPath("$.changed[0].status").value("Created"))
+                .andExpect(jsonPath("$.changed[1].id").value(batchEdited))
+                .andExpect(jsonPath("$.changed[1].description").value("Now with a description"))
+                .andExpect(jsonPath("$.deleted.length()").value(0));
+    }
+
+    @Test
+    void stream_shouldPushChangesAndReplayAfterLastEventId() throws Exception {
+        MvcResult subscription = mockMvc.perform(get("/api/releases/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long id = createRelease("Streamed Release");
+        String created = awaitEvent(subscription, "CREATED", id);
+        String createdId = created.lines()
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring(3))
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"In Development\"}"))
+                .andExpect(status().isNoContent());
+        assertTrue(awaitEvent(subscription, "STATUS_CHANGED", id)
+                .contains("\"previousStatus\":\"Created\""));
+
+        // A reconnecting client gets what it missed since its last event, not the event itself
+        MvcResult resumed = mockMvc.perform(get("/api/releases/stream")
+                        .header("Last-Event-ID", createdId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitEvent(resumed, "STATUS_CHANGED", id);
+        assertFalse(resumed.getResponse().getContentAsString().contains("id:" + createdId + "\n"));
+
+        MvcResult unknown = mockMvc.perform(get("/api/releases/stream")
+                        .header("Last-Event-ID", "unknown-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(unknown, "event:reset");
+    }
+
+    @Test
+    void archive_shouldMoveOldDoneReleasesOutOfTheDefaultViews() throws Exception {
+        long id = createRelease("Archived Release");
+        long current = createRelease("Current Release");
+        for (String status : List.of("In Development", "On DEV", "QA Done on DEV", "On Staging",
+                "QA Done on STAGING", "On PROD", "Done")) {
+            mockMvc.perform(patch("/api/releases/" + id + "/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\":\"" + status + "\"}"))
+                    .andExpect(status().isNoContent());
+        }
+        JsonNode statsBefore = stats();
+
+        jdbcTemplate.update("update releases set last_update_at = ? where id = ?",
+                LocalDateTime.now().minusDays(365), id);
+        assertEquals(1, releaseArchiveService.archive());
+
+        mockMvc.perform(get("/api/releases/" + id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/releases/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"On PROD\"}"))
+                .andExpect(status().isNotFound());
+
+        String etag = mockMvc.perform(get("/api/releases/" + id).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Archived Release"))
+                .andExpect(jsonPath("$.status").value("Done"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/releases/" + id)
+                        .param("includeArchived", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/releases/" + current).param("includeArchived", "true"))
+                .andExpect(jsonPath("$.name").value("Current Release"));
+
+        mockMvc.perform(get("/api/releases").param("name", "Archived Release"))
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mockMvc.perform(get("/api/releases")
+                        .param("name", "Release")
+                        .param("fromDate", LocalDate.now().toString())
+                        .param("includeArchived", "true")
+                        .param("limit", "500"))
+                .andExpect(jsonPath("$.items[?(@.id == " + id + ")].status").value("Done"))
+                .andExpect(jsonPath("$.items[?(@.id == " + current + ")]").exists());
+        mockMvc.perform(get("/api/releases")
+                        .param("includeArchived", "true")
+                        .param("fields", "id,name"))
+                .andExpect(status().isBadRequest());
+
+        // Archived releases still count in the statistics
+        assertEquals(statsBefore, stats());
+        String rebuilt = mockMvc.perform(post("/api/releases/stats/rebuild"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertEquals(statsBefore, objectMapper.readTree(rebuilt));
+    }
+
+    private String awaitEvent(MvcResult subscription, String type, long releaseId) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            for (String event : subscription.getResponse().getContentAsString().split("\n\n")) {
+                if (event.contains("event:" + type + "\n") && event.contains("\"releaseId\":" + releaseId + ",")) {
+                    return event;
+                }
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("No " + type + " event for release " + releaseId + " in stream:\n"
+                        + subscription.getResponse().getContentAsString());
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private String awaitContent(MvcResult subscription, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = subscription.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = subscription.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Expected " + expected + " in stream:\n" + content);
+        return content;
+    }
+
+    private JsonNode changes(String since) throws Exception {
+        var request = get("/api/releases/changes");
+        if (since != null) {
+            request.param("since", since);
+        }
+        String response = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private JsonNode stats() throws Exception {
+        String response = mockMvc.perform(get("/api/releases/stats"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private long createRelease(String name) throws Exception {
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName(name);
+        request.setReleaseDate(LocalDate.now());
+
+        String response = mockMvc.perform(post("/api/releases")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
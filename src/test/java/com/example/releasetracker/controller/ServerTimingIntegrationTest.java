@@ -0,0 +1,58 @@
+package com.example.releasetracker.controller;
+
+import com.example.releasetracker.dto.ReleaseRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "release-tracker.server-timing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:server-timing"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+class ServerTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldReportPhasesOfFilterRequest() throws Exception {
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName("Timed Release");
+        request.setReleaseDate(LocalDate.now());
+
+        mockMvc.perform(post("/api/releases")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/releases").param("name", "Timed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Timed Release"))
+                .andExpect(header().string("Server-Timing", containsString("spec;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("sql;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("hydrate;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("map;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("serialize;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("total;dur=")));
+    }
+}
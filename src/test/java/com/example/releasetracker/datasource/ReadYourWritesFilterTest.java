@@ -0,0 +1,59 @@
+package com.example.releasetracker.datasource;
+
+import com.example.releasetracker.config.ReplicaProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter =
+            new ReadYourWritesFilter(new ReplicaProperties(true, Duration.ofSeconds(2), List.of()));
+
+    @Test
+    void write_shouldSetPinCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/releases"), response, new MockFilterChain());
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        assertTrue(Long.parseLong(cookie.getValue()) > System.currentTimeMillis());
+    }
+
+    @Test
+    void read_shouldStayOnPrimaryWhileCookieIsValid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/releases");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 2000)));
+
+        AtomicBoolean pinned = new AtomicBoolean();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> pinned.set(PrimaryPin.isPinned()));
+
+        assertTrue(pinned.get());
+        assertFalse(PrimaryPin.isPinned());
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void read_shouldUseReplicasOnceCookieExpired() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/releases");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+
+        AtomicBoolean pinned = new AtomicBoolean(true);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(PrimaryPin.isPinned()));
+
+        assertFalse(pinned.get());
+    }
+}
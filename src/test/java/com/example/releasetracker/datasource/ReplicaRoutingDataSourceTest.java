@@ -0,0 +1,91 @@
+package com.example.releasetracker.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes real transactions over embedded H2 databases standing in for the primary and the replicas.
+ * Each database holds a marker row with its own name, so a query shows where it ran.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        List<DataSource> replicas = List.of(database("replica-a"), database("replica-b"));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPin.clear();
+    }
+
+    @Test
+    void shouldSendWritesAndNonTransactionalCallsToPrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> databaseName()));
+        assertEquals("primary", databaseName());
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverReplicas() {
+        String first = readOnlyTransaction.execute(status -> databaseName());
+        String second = readOnlyTransaction.execute(status -> databaseName());
+        String third = readOnlyTransaction.execute(status -> databaseName());
+
+        assertEquals(List.of("replica-a", "replica-b", "replica-a"), List.of(first, second, third));
+    }
+
+    @Test
+    void shouldKeepPinnedReadsOnPrimary() {
+        PrimaryPin.pin();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> databaseName()));
+    }
+
+    @Test
+    void shouldUsePrimaryWhenNoReplicasConfigured() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(database("primary-only"), List.of()));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(true);
+
+        assertEquals("primary-only", transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class)));
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists marker (name varchar(20))");
+        jdbc.update("delete from marker");
+        jdbc.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.releasetracker.domain.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ReleaseStatusTest {
+
+    private static final String[] DISPLAY_NAMES = {
+            "Created", "in development", "ON DEV", "QA Done on DEV",
+            "on staging", "QA DONE ON STAGING", "On PROD", "done"
+    };
+
+    @Test
+    void fromDisplayName_shouldIgnoreCase() {
+        assertEquals(ReleaseStatus.QA_DONE_ON_STAGING, ReleaseStatus.fromDisplayName("qa done on staging"));
+        assertEquals(ReleaseStatus.DONE, ReleaseStatus.fromDisplayName("DONE"));
+    }
+
+    @Test
+    void fromDisplayName_shouldListValidValues_whenInvalid() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> ReleaseStatus.fromDisplayName("Shipped"));
+
+        assertEquals("Invalid status: Shipped. Valid values: [Created, In Development, On DEV, QA Done on DEV, "
+                + "On Staging, QA Done on STAGING, On PROD, Done]", ex.getMessage());
+    }
+
+    @Test
+    void allowedPrevious_shouldMirrorAllowedNext() {
+        for (ReleaseStatus status : ReleaseStatus.values()) {
+            for (ReleaseStatus previous : status.allowedPrevious()) {
+                assertTrue(previous.canTransitionTo(status));
+            }
+            for (ReleaseStatus next : status.allowedNext()) {
+                assertTrue(next.allowedPrevious().contains(status));
+            }
+        }
+        assertEquals(List.of(ReleaseStatus.QA_DONE_ON_STAGING, ReleaseStatus.DONE), ReleaseStatus.ON_PROD.allowedPrevious());
+        assertFalse(ReleaseStatus.CREATED.canTransitionTo(ReleaseStatus.ON_PROD));
+        assertFalse(ReleaseStatus.CREATED.canTransitionTo(null));
+    }
+
+    @Test
+    void hotPath_shouldNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().threadId();
+
+        long checksum = exerciseHotPath(20_000);
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        checksum += exerciseHotPath(200_000);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(checksum > 0);
+        // A single allocating call per iteration would add up to megabytes here
+        assertTrue(allocated < 4096, "Hot path allocated " + allocated + " bytes over 200000 iterations");
+    }
+
+    private long exerciseHotPath(int iterations) {
+        long checksum = 0;
+        for (int i = 0; i < iterations; i++) {
+            ReleaseStatus status = ReleaseStatus.fromDisplayName(DISPLAY_NAMES[i & 7]);
+            ReleaseStatus target = ReleaseStatus.fromJson(DISPLAY_NAMES[(i + 1) & 7]);
+            if (status.canTransitionTo(target)) {
+                checksum++;
+            }
+            checksum += status.allowedNext().size() + target.allowedPrevious().size();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.releasetracker.metrics;
+
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseSpecification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReleaseMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReleaseMetrics metrics = new ReleaseMetrics(registry);
+
+    @Test
+    void recordsEachShapeAndModeOnItsOwnTimer() {
+        metrics.recordFilterShape(ReleaseSpecification.STATUS_PARAM, "list", 1_000);
+        metrics.recordFilterShape(ReleaseSpecification.STATUS_PARAM, "list", 3_000);
+        metrics.recordFilterShape(ReleaseSpecification.STATUS_PARAM, "fields", 2_000);
+
+        assertEquals(2, registry.find("releases.filter.shape").timers().size());
+        assertEquals(2, registry.get("releases.filter.shape").tag("mode", "list").timer().count());
+        assertEquals(1, registry.get("releases.filter.shape").tag("mode", "fields").timer().count());
+    }
+
+    @Test
+    void countsRejectedTransitionsOnOneCounterPerPair() {
+        metrics.transitionRejected(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD);
+        metrics.transitionRejected(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD);
+        metrics.transitionRejected(ReleaseStatus.DONE, ReleaseStatus.CREATED);
+
+        assertEquals(2, registry.find("releases.transitions.rejected").counters().size());
+        assertEquals(2.0, registry.get("releases.transitions.rejected").tag("from", "CREATED").counter().count());
+    }
+}
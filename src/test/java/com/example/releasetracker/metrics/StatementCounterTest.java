@@ -0,0 +1,23 @@
+package com.example.releasetracker.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatementCounterTest {
+
+    private final StatementCounter inspector = new StatementCounter();
+
+    @Test
+    void countsStatementsOnlyWhileActive() {
+        inspector.inspect("select 1");
+
+        StatementCounter.start();
+        inspector.inspect("select 1");
+        assertEquals("select 2", inspector.inspect("select 2"));
+
+        assertEquals(2, StatementCounter.current());
+        assertEquals(2, StatementCounter.stop());
+        assertEquals(0, StatementCounter.current());
+    }
+}
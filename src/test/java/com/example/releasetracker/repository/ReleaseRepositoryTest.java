@@ -2,6 +2,7 @@ package com.example.releasetracker.repository;
 
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.specification.ReleaseCursor;
 import com.example.releasetracker.specification.ReleaseSpecification;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,4 +41,97 @@ class ReleaseRepositoryTest {
 
         assertEquals(1, result.size());
     }
+
+    @Test
+    void shouldSeekPastCursorInKeysetOrder() {
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        Release first = repository.save(keysetRelease(date));
+        Release second = repository.save(keysetRelease(date));
+        Release third = repository.save(keysetRelease(date.plusDays(1)));
+
+        List<Release> result = repository.findAll(
+                ReleaseSpecification.filterBy("Keyset", null, null, null, null)
+                        .and(ReleaseSpecification.after(ReleaseCursor.after(first))),
+                ReleaseSpecification.KEYSET_ORDER);
+
+        assertEquals(List.of(second.getId(), third.getId()),
+                result.stream().map(Release::getId).toList());
+    }
+
+    @Test
+    void findPage_shouldMatchSpecificationForEveryShape() {
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        repository.save(catalogRelease("Catalog A", "Ledger export", ReleaseStatus.CREATED, null));
+        Release first = repository.save(catalogRelease("Catalog B", "ledger fixes", ReleaseStatus.CREATED, date));
+        repository.save(catalogRelease("catalog c", null, ReleaseStatus.ON_DEV, date));
+        repository.save(catalogRelease("Other", "Ledger", ReleaseStatus.CREATED, date.plusDays(5)));
+        repository.save(catalogRelease("Catalog D", "ledger", ReleaseStatus.CREATED, date.plusDays(40)));
+
+        List<ReleaseCursor> cursors = Arrays.asList(null, new ReleaseCursor(null, 0), ReleaseCursor.after(first));
+        for (int shape = 0; shape < ReleaseSpecification.SHAPE_COUNT; shape++) {
+            String name = (shape & ReleaseSpecification.NAME_PARAM) != 0 ? "CATALOG" : null;
+            String description = (shape & ReleaseSpecification.DESCRIPTION_PARAM) != 0 ? "ledger" : null;
+            ReleaseStatus status = (shape & ReleaseSpecification.STATUS_PARAM) != 0 ? ReleaseStatus.CREATED : null;
+            LocalDate fromDate = (shape & ReleaseSpecification.FROM_DATE_PARAM) != 0 ? date : null;
+            LocalDate toDate = (shape & ReleaseSpecification.TO_DATE_PARAM) != 0 ? date.plusDays(30) : null;
+
+            for (ReleaseCursor cursor : cursors) {
+                List<Long> expected = repository.findAll(
+                                ReleaseSpecification.filterBy(name, description, status, fromDate, toDate)
+                                        .and(ReleaseSpecification.after(cursor)),
+                                ReleaseSpecification.KEYSET_ORDER)
+                        .stream().map(Release::getId).toList();
+                List<Long> actual = repository.findPage(name, description, status, fromDate, toDate, cursor, 100)
+                        .stream().map(Release::getId).toList();
+
+                assertEquals(expected, actual, ReleaseSpecification.shapeName(shape) + " after " + cursor);
+            }
+        }
+    }
+
+    @Test
+    void shouldRankNameMatchesAboveDescriptionMatches() {
+        Release descriptionHit = repository.save(Release.builder()
+                .name("Quarterly cleanup")
+                .description("Reworks the ledger export")
+                .status(ReleaseStatus.CREATED)
+                .releaseDate(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .lastUpdateAt(LocalDateTime.now())
+                .build());
+        Release nameHit = repository.save(Release.builder()
+                .name("Ledger v2")
+                .status(ReleaseStatus.CREATED)
+                .releaseDate(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .lastUpdateAt(LocalDateTime.now())
+                .build());
+
+        List<Release> result = repository.search("ledger",
+                ReleaseSpecification.filterBy(null, null, ReleaseStatus.CREATED, null, null), 10);
+
+        assertEquals(List.of(nameHit.getId(), descriptionHit.getId()),
+                result.stream().map(Release::getId).toList());
+    }
+
+    private Release catalogRelease(String name, String description, ReleaseStatus status, LocalDate releaseDate) {
+        return Release.builder()
+                .name(name)
+                .description(description)
+                .status(status)
+                .releaseDate(releaseDate)
+                .createdAt(LocalDateTime.now())
+                .lastUpdateAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Release keysetRelease(LocalDate releaseDate) {
+        return Release.builder()
+                .name("Keyset")
+                .status(ReleaseStatus.CREATED)
+                .releaseDate(releaseDate)
+                .createdAt(LocalDateTime.now())
+                .lastUpdateAt(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.releasetracker.repository;
+
+import com.example.releasetracker.domain.entity.ReleaseStat;
+import com.example.releasetracker.domain.entity.ReleaseStatId;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ReleaseStatRepositoryTest {
+
+    @Autowired
+    private ReleaseStatRepository repository;
+
+    @Test
+    void lockCounters_shouldCreateLockRowOnceAndKeepItOutOfTheStatistics() {
+        repository.increment("status", "CREATED", 2);
+
+        repository.lockCounters(LockModeType.PESSIMISTIC_READ);
+        repository.lockCounters(LockModeType.PESSIMISTIC_WRITE);
+
+        assertTrue(repository.existsById(ReleaseStatRepositoryCustomImpl.LOCK_ID));
+        assertEquals(2, repository.count());
+
+        List<ReleaseStat> counters = repository.findByDimensions(List.of("status", "month"));
+        assertEquals(List.of(new ReleaseStatId("status", "CREATED")),
+                counters.stream().map(ReleaseStat::getId).toList());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.cache.ReleaseResponseCache;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.ReleaseStatusTransitionRequestDTO;
+import com.example.releasetracker.dto.ReleaseStatusTransitionResultDTO;
+import com.example.releasetracker.event.ReleaseChanged;
+import com.example.releasetracker.mapper.ReleaseMapper;
+import com.example.releasetracker.metrics.ReleaseMetrics;
+import com.example.releasetracker.repository.ReleaseIdAndStatus;
+import com.example.releasetracker.repository.ReleaseRepository;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseBatchServiceTest {
+
+    @Mock
+    private ReleaseRepository releaseRepository;
+
+    @Mock
+    private ReleaseMapper releaseMapper;
+
+    @Mock
+    private ReleaseWorkflowService workflowService;
+
+    @Mock
+    private ReleaseResponseCache responseCache;
+
+    @Mock
+    private ReleaseStatsService statsService;
+
+    @Mock
+    private ReleaseMetrics releaseMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
+    @InjectMocks
+    private ReleaseBatchService batchService;
+
+    @Test
+    void transitionAll_shouldOnlyReportReleasesItMoved_whenAnotherTransactionMovedOneFirst() {
+        ReleaseStatusTransitionRequestDTO request = new ReleaseStatusTransitionRequestDTO();
+        request.setTargetStatus("In Development");
+        request.setIds(List.of(1L, 2L));
+
+        // Both read as Created, but release 2 is moved by another transaction before the lock
+        when(releaseRepository.findStatuses(any(), anyInt())).thenReturn(
+                List.of(new ReleaseIdAndStatus(1L, ReleaseStatus.CREATED), new ReleaseIdAndStatus(2L, ReleaseStatus.CREATED)),
+                List.of(new ReleaseIdAndStatus(2L, ReleaseStatus.IN_DEVELOPMENT)));
+        when(releaseRepository.lockInStatus(List.of(1L, 2L), "CREATED")).thenReturn(List.of(1L));
+        when(releaseRepository.transitionStatus(eq(List.of(1L)), eq(List.of(ReleaseStatus.CREATED)),
+                eq(ReleaseStatus.IN_DEVELOPMENT), any())).thenReturn(1);
+
+        ReleaseStatusTransitionResultDTO result = batchService.transitionAll(request);
+
+        assertEquals(List.of(1L), result.getMoved());
+        assertEquals(1, result.getRejected().size());
+        assertEquals(2L, result.getRejected().get(0).getId());
+        assertEquals("In Development", result.getRejected().get(0).getCurrentStatus());
+        assertEquals("Release was modified concurrently", result.getRejected().get(0).getReason());
+
+        ArgumentCaptor<ReleaseChanged> events = ArgumentCaptor.forClass(ReleaseChanged.class);
+        verify(eventPublisher, times(1)).publishEvent(events.capture());
+        assertEquals(1L, events.getValue().releaseId());
+        assertEquals(ReleaseStatus.CREATED, events.getValue().fromStatus());
+        verify(statsService).recordStatusChange(ReleaseStatus.CREATED, ReleaseStatus.IN_DEVELOPMENT, 1);
+        verify(responseCache).invalidateAfterCommit(List.of(1L));
+    }
+
+    @Test
+    void transitionAll_shouldCountReleasesRejectedByTheWorkflow() {
+        ReleaseStatusTransitionRequestDTO request = new ReleaseStatusTransitionRequestDTO();
+        request.setTargetStatus("On PROD");
+        request.setIds(List.of(1L));
+
+        when(releaseRepository.findStatuses(any(), anyInt()))
+                .thenReturn(List.of(new ReleaseIdAndStatus(1L, ReleaseStatus.CREATED)));
+        when(workflowService.rejectionReason(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD)).thenReturn("Cannot change status");
+
+        ReleaseStatusTransitionResultDTO result = batchService.transitionAll(request);
+
+        assertTrue(result.getMoved().isEmpty());
+        assertEquals("Cannot change status", result.getRejected().get(0).getReason());
+        verify(releaseMetrics).transitionRejected(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD);
+    }
+}
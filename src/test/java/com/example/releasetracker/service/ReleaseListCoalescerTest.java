@@ -0,0 +1,142 @@
+package com.example.releasetracker.service;
+
+import com.example.releasetracker.config.CoalescingProperties;
+import com.example.releasetracker.datasource.PrimaryPin;
+import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.ReleasePageDTO;
+import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.event.ReleaseChanged;
+import com.example.releasetracker.event.ReleasesArchived;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseListCoalescerTest {
+
+    @Mock
+    private ReleaseService releaseService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReleaseListCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // A TTL makes sequential calls share a result, so sharing can be tested without threads
+        coalescer = new ReleaseListCoalescer(releaseService,
+                new CoalescingProperties(true, Duration.ofMinutes(1)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPin.clear();
+    }
+
+    @Test
+    void listQuery_shouldNormalizeCriteriaTheWayFilterInterpretsThem() {
+        ReleaseListCoalescer.ListQuery raw = ReleaseListCoalescer.ListQuery.of(
+                "Payments", "LEDGER", ReleaseStatus.ON_DEV, null, null, "  export  ", "", null, false);
+        ReleaseListCoalescer.ListQuery normalized = ReleaseListCoalescer.ListQuery.of(
+                "payments", "ledger", ReleaseStatus.ON_DEV, null, null, "export", null,
+                ReleaseService.DEFAULT_PAGE_SIZE, false);
+
+        assertEquals(normalized, raw);
+        assertEquals(ReleaseService.DEFAULT_PAGE_SIZE, raw.limit());
+        assertNull(raw.cursor());
+
+        ReleaseListCoalescer.ListQuery blank = ReleaseListCoalescer.ListQuery.of(
+                " ", "", null, null, null, "   ", null, 10, false);
+        assertNull(blank.name());
+        assertNull(blank.description());
+        assertNull(blank.q());
+        assertEquals(10, blank.limit());
+    }
+
+    @Test
+    void listQuery_shouldKeepDistinctCriteriaApart() {
+        LocalDate today = LocalDate.now();
+
+        assertNotEquals(
+                ReleaseListCoalescer.ListQuery.of(null, null, null, today, null, null, null, null, false),
+                ReleaseListCoalescer.ListQuery.of(null, null, null, null, today, null, null, null, false));
+        assertNotEquals(
+                ReleaseListCoalescer.ListQuery.of(null, null, null, null, null, null, null, null, false),
+                ReleaseListCoalescer.ListQuery.of(null, null, null, null, null, null, null, null, true));
+        // Search text is matched as typed, apart from surrounding whitespace
+        assertNotEquals(
+                ReleaseListCoalescer.ListQuery.of(null, null, null, null, null, "Export", null, null, false),
+                ReleaseListCoalescer.ListQuery.of(null, null, null, null, null, "export", null, null, false));
+    }
+
+    @Test
+    void filter_shouldShareResultOfEquivalentCall() {
+        ReleasePageDTO<ReleaseResponseDTO> page = page();
+        when(releaseService.filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .thenReturn(page);
+
+        assertSame(page, coalescer.filter("Payments", null, null, null, null, null, null, null, false));
+        assertSame(page, coalescer.filter("PAYMENTS", "", null, null, null, " ", null, 50, false));
+
+        verify(releaseService, times(1)).filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void filter_shouldRunAgain_afterCommittedChange() {
+        when(releaseService.filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .thenReturn(page());
+
+        coalescer.filter(null, null, ReleaseStatus.CREATED, null, null, null, null, null, false);
+        coalescer.filter(null, null, ReleaseStatus.CREATED, null, null, null, null, null, false);
+        verify(releaseService, times(1)).filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+
+        coalescer.onReleaseChanged(ReleaseChanged.statusChanged(
+                1L, ReleaseStatus.CREATED, ReleaseStatus.IN_DEVELOPMENT, LocalDateTime.now()));
+        coalescer.filter(null, null, ReleaseStatus.CREATED, null, null, null, null, null, false);
+        verify(releaseService, times(2)).filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+
+        coalescer.onReleasesArchived(new ReleasesArchived(List.of(2L), LocalDateTime.now()));
+        coalescer.filter(null, null, ReleaseStatus.CREATED, null, null, null, null, null, false);
+        verify(releaseService, times(3)).filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+
+        assertEquals(1.0, meterRegistry.get("releases.filter.coalescing").tag("outcome", "reused")
+                .functionCounter().count());
+    }
+
+    @Test
+    void filter_shouldBypassSharing_whenPinnedToPrimary() {
+        when(releaseService.filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .thenReturn(page());
+
+        coalescer.filter(null, null, ReleaseStatus.CREATED, null, null, null, null, null, false);
+        PrimaryPin.pin();
+        coalescer.filter(null, null, ReleaseStatus.CREATED, null, null, null, null, null, false);
+
+        verify(releaseService, times(2)).filter(any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+        assertEquals(0.0, meterRegistry.get("releases.filter.coalescing").tag("outcome", "reused")
+                .functionCounter().count());
+    }
+
+    private static ReleasePageDTO<ReleaseResponseDTO> page() {
+        return ReleasePageDTO.<ReleaseResponseDTO>builder()
+                .items(List.of())
+                .limit(ReleaseService.DEFAULT_PAGE_SIZE)
+                .build();
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.releasetracker.service;
 
+import com.example.releasetracker.cache.ReleaseResponseCache;
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.dto.ReleasePageDTO;
 import com.example.releasetracker.dto.ReleaseRequestDTO;
 import com.example.releasetracker.dto.ReleaseResponseDTO;
+import com.example.releasetracker.exception.PreconditionFailedException;
 import com.example.releasetracker.exception.ReleaseNotFoundException;
+import com.example.releasetracker.event.ReleaseChanged;
 import com.example.releasetracker.mapper.ReleaseMapper;
+import com.example.releasetracker.metrics.ReleaseMetrics;
+import com.example.releasetracker.repository.ArchivedReleaseRepository;
 import com.example.releasetracker.repository.ReleaseRepository;
+import com.example.releasetracker.specification.ReleaseCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
@@ -22,7 +30,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.eq;
@@ -33,12 +43,27 @@ class ReleaseServiceTest {
     @Mock
     private ReleaseRepository releaseRepository;
 
+    @Mock
+    private ArchivedReleaseRepository archivedReleaseRepository;
+
     @Mock
     private ReleaseMapper releaseMapper;
 
     @Mock
     private ReleaseWorkflowService workflowService;
 
+    @Mock
+    private ReleaseResponseCache responseCache;
+
+    @Mock
+    private ReleaseMetrics releaseMetrics;
+
+    @Mock
+    private ReleaseStatsService statsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReleaseService releaseService;
 
@@ -97,6 +122,7 @@ class ReleaseServiceTest {
 
         assertEquals("Test", result.getName());
         verify(releaseRepository).save(release);
+        verify(statsService).recordCreated(ReleaseStatus.CREATED, release.getReleaseDate());
     }
 
 
@@ -107,10 +133,10 @@ class ReleaseServiceTest {
         request.setReleaseDate(LocalDate.now());
 
         when(releaseRepository.findById(1L)).thenReturn(Optional.of(release));
-        when(releaseRepository.save(any())).thenReturn(release);
+        when(releaseRepository.saveAndFlush(any())).thenReturn(release);
         when(releaseMapper.toDTO(any())).thenReturn(responseDTO);
 
-        releaseService.update(1L, request);
+        releaseService.update(1L, request, null);
 
         verify(workflowService, never()).applyTransition(any(), any());
     }
@@ -123,33 +149,189 @@ class ReleaseServiceTest {
         request.setReleaseDate(LocalDate.now());
 
         when(releaseRepository.findById(1L)).thenReturn(Optional.of(release));
-        when(releaseRepository.save(any())).thenReturn(release);
+        when(releaseRepository.saveAndFlush(any())).thenReturn(release);
         when(releaseMapper.toDTO(any())).thenReturn(responseDTO);
 
-        releaseService.update(1L, request);
+        releaseService.update(1L, request, null);
 
         verify(workflowService).applyTransition(eq(release), eq(ReleaseStatus.IN_DEVELOPMENT));
+        verify(responseCache).invalidateAfterCommit(List.of(1L));
+    }
+
+    @Test
+    void update_shouldMoveLastUpdateAt_whenStatusUnchanged() {
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        release.setLastUpdateAt(before);
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName("Updated");
+        request.setStatus("Created");
+        request.setReleaseDate(LocalDate.now());
+
+        when(releaseRepository.findById(1L)).thenReturn(Optional.of(release));
+        when(releaseRepository.saveAndFlush(any())).thenReturn(release);
+        when(releaseMapper.toDTO(any())).thenReturn(responseDTO);
+
+        releaseService.update(1L, request, null);
+
+        verify(workflowService, never()).applyTransition(any(), any());
+        assertTrue(release.getLastUpdateAt().isAfter(before));
+    }
+
+    @Test
+    void update_shouldThrowPreconditionFailed_whenVersionIsStale() {
+        release.setVersion(3L);
+        ReleaseRequestDTO request = new ReleaseRequestDTO();
+        request.setName("Updated");
+        request.setReleaseDate(LocalDate.now());
+
+        when(releaseRepository.findById(1L)).thenReturn(Optional.of(release));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> releaseService.update(1L, request, 2L));
+        verify(releaseRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void delete_shouldThrow_whenNotExists() {
-        when(releaseRepository.existsById(1L)).thenReturn(false);
+        when(releaseRepository.softDeleteById(eq(1L), any())).thenReturn(0);
 
         assertThrows(ReleaseNotFoundException.class,
                 () -> releaseService.delete(1L));
+        verify(releaseRepository, never()).findIncludingDeleted(any());
+        verify(statsService, never()).recordDeleted(any(), any());
+    }
+
+    @Test
+    void delete_shouldRemoveReleaseFromStats() {
+        when(releaseRepository.softDeleteById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(releaseRepository.findIncludingDeleted(1L)).thenReturn(Optional.of(release));
+
+        releaseService.delete(1L);
+
+        verify(statsService).recordDeleted(ReleaseStatus.CREATED, release.getReleaseDate());
+        verify(eventPublisher).publishEvent(any(ReleaseChanged.class));
+        verify(responseCache).invalidateAfterCommit(List.of(1L));
+    }
+
+    @Test
+    void changeStatus_shouldWriteOnce_whenTargetHasSinglePredecessor() {
+        when(releaseRepository.transitionStatus(eq(List.of(1L)), eq(List.of(ReleaseStatus.ON_PROD)),
+                eq(ReleaseStatus.DONE), any())).thenReturn(1);
+
+        releaseService.changeStatus(1L, ReleaseStatus.DONE);
+
+        verify(releaseRepository, never()).lockStatusById(any());
+        verify(releaseRepository, never()).findStatusById(any());
+        verify(statsService).recordStatusChange(ReleaseStatus.ON_PROD, ReleaseStatus.DONE, 1);
+        verify(eventPublisher).publishEvent(any(ReleaseChanged.class));
+    }
+
+    @Test
+    void changeStatus_shouldUpdateWithAllPredecessorsOnce() {
+        when(releaseRepository.lockStatusById(1L)).thenReturn(Optional.of("CREATED"));
+        when(releaseRepository.transitionStatus(eq(List.of(1L)),
+                eq(List.of(ReleaseStatus.CREATED, ReleaseStatus.ON_DEV)),
+                eq(ReleaseStatus.IN_DEVELOPMENT), any())).thenReturn(1);
+
+        releaseService.changeStatus(1L, ReleaseStatus.IN_DEVELOPMENT);
+
+        verify(releaseRepository, times(1)).transitionStatus(any(), any(), any(), any());
+        verify(statsService).recordStatusChange(ReleaseStatus.CREATED, ReleaseStatus.IN_DEVELOPMENT, 1);
+        verify(eventPublisher).publishEvent(any(ReleaseChanged.class));
+    }
+
+    @Test
+    void changeStatus_shouldThrow_whenTransitionNotAllowed() {
+        when(releaseRepository.lockStatusById(1L)).thenReturn(Optional.of("CREATED"));
+        when(workflowService.rejectionReason(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD)).thenReturn("Cannot change status");
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> releaseService.changeStatus(1L, ReleaseStatus.ON_PROD));
+        assertEquals("Cannot change status", ex.getMessage());
+        verify(releaseRepository, never()).transitionStatus(any(), any(), any(), any());
+        verify(releaseMetrics).transitionRejected(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD);
+    }
+
+    @Test
+    void changeStatus_shouldThrow_whenSinglePredecessorDoesNotMatch() {
+        when(releaseRepository.transitionStatus(any(), any(), eq(ReleaseStatus.DONE), any())).thenReturn(0);
+        when(releaseRepository.findStatusById(1L)).thenReturn(Optional.of(ReleaseStatus.CREATED));
+        when(workflowService.rejectionReason(ReleaseStatus.CREATED, ReleaseStatus.DONE)).thenReturn("Cannot change status");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> releaseService.changeStatus(1L, ReleaseStatus.DONE));
+        verify(releaseMetrics).transitionRejected(ReleaseStatus.CREATED, ReleaseStatus.DONE);
+    }
+
+    @Test
+    void changeStatus_shouldThrowNotFound_whenReleaseMissing() {
+        when(releaseRepository.lockStatusById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ReleaseNotFoundException.class,
+                () -> releaseService.changeStatus(1L, ReleaseStatus.IN_DEVELOPMENT));
+        verify(releaseRepository, never()).transitionStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void filter_shouldReturnMappedPage() {
+        when(releaseRepository.findPage("Test", null, null, null, null, null, ReleaseService.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(List.of(release));
+        when(releaseMapper.toDTO(release)).thenReturn(responseDTO);
+
+        ReleasePageDTO<ReleaseResponseDTO> result =
+                releaseService.filter("Test", null, null, null, null, null, null, null, false);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        assertEquals(ReleaseService.DEFAULT_PAGE_SIZE, result.getLimit());
+        verify(releaseRepository).findPage("Test", null, null, null, null, null, ReleaseService.DEFAULT_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void filter_shouldReturnNextCursor_whenMoreRowsExist() {
+        Release second = Release.builder()
+                .id(2L)
+                .name("Test 2")
+                .status(ReleaseStatus.CREATED)
+                .releaseDate(LocalDate.now())
+                .build();
+
+        when(releaseRepository.findPage(null, null, null, null, null, null, 2))
+                .thenReturn(List.of(release, second));
+        when(releaseMapper.toDTO(release)).thenReturn(responseDTO);
+
+        ReleasePageDTO<ReleaseResponseDTO> result =
+                releaseService.filter(null, null, null, null, null, null, null, 1, false);
+
+        assertEquals(1, result.getItems().size());
+        assertNotNull(result.getNextCursor());
+        assertEquals(1L, ReleaseCursor.decode(result.getNextCursor()).id());
+    }
+
+    @Test
+    void filter_shouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> releaseService.filter(null, null, null, null, null, null, null, 0, false));
     }
 
     @Test
-    void filter_shouldReturnMappedList() {
-        when(releaseRepository.findAll(any(Specification.class)))
+    void filter_shouldUseFullTextSearch_whenQueryProvided() {
+        when(releaseRepository.search(eq("payments"), any(Specification.class), eq(ReleaseService.DEFAULT_PAGE_SIZE)))
                 .thenReturn(List.of(release));
         when(releaseMapper.toDTO(release)).thenReturn(responseDTO);
 
-        List<ReleaseResponseDTO> result =
-                releaseService.filter("Test", null, null, null, null);
+        ReleasePageDTO<ReleaseResponseDTO> result =
+                releaseService.filter(null, null, null, null, null, " payments ", null, null, false);
 
-        assertEquals(1, result.size());
-        verify(releaseRepository).findAll(any(Specification.class));
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(releaseRepository, never()).findPage(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void filter_shouldRejectCursor_inSearchMode() {
+        assertThrows(IllegalArgumentException.class,
+                () -> releaseService.filter(null, null, null, null, null, "payments", "MjAyNi0wMS0wMToy", null, false));
     }
 
 }
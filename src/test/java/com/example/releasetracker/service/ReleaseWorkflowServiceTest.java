@@ -2,6 +2,8 @@ package com.example.releasetracker.service;
 
 import com.example.releasetracker.domain.entity.Release;
 import com.example.releasetracker.domain.enums.ReleaseStatus;
+import com.example.releasetracker.metrics.ReleaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,11 +16,13 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class ReleaseWorkflowServiceTest {
 
+    private SimpleMeterRegistry meterRegistry;
     private ReleaseWorkflowService workflowService;
 
     @BeforeEach
     void setUp() {
-        workflowService = new ReleaseWorkflowService();
+        meterRegistry = new SimpleMeterRegistry();
+        workflowService = new ReleaseWorkflowService(new ReleaseMetrics(meterRegistry));
     }
 
     @Test
@@ -58,4 +62,29 @@ class ReleaseWorkflowServiceTest {
 
         assertTrue(ex.getMessage().contains("Cannot change status"));
     }
+
+    @Test
+    void rejectedTransition_shouldBeCounted() {
+        Release release = Release.builder()
+                .status(ReleaseStatus.CREATED)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                workflowService.applyTransition(release, ReleaseStatus.ON_PROD)
+        );
+
+        assertEquals(1.0, meterRegistry.get("releases.transitions.rejected")
+                .tag("from", "CREATED")
+                .tag("to", "ON_PROD")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void rejectionReason_shouldNotCount() {
+        String reason = workflowService.rejectionReason(ReleaseStatus.CREATED, ReleaseStatus.ON_PROD);
+
+        assertTrue(reason.contains("Cannot change status"));
+        assertTrue(meterRegistry.find("releases.transitions.rejected").counters().isEmpty());
+    }
 }